@@ -42,6 +42,7 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")                              // JWT Jackson
     implementation("software.amazon.awssdk:s3:2.21.29")                             // AWS S3 SDK
     implementation("software.amazon.awssdk:url-connection-client:2.21.29")           // AWS URL Connection Client
+    implementation("software.amazon.awssdk:netty-nio-client:2.21.29")               // AWS 비동기 HTTP Client (S3AsyncClient 업로드)
     compileOnly("org.projectlombok:lombok")
     runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     runtimeOnly("org.postgresql:postgresql")
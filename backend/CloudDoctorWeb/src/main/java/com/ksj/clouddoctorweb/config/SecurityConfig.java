@@ -1,6 +1,7 @@
 package com.ksj.clouddoctorweb.config;
 
 import com.ksj.clouddoctorweb.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,9 +35,12 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답의 비동기 재디스패치는 최초 요청에서 이미 인가됨 (JWT 필터는 재디스패치에서 실행되지 않음)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/health", "/").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/guidelines").permitAll()
+                .requestMatchers("/files/**").permitAll()
                 .requestMatchers("/api/users", "/api/providers", "/api/services/**").permitAll()
                 .requestMatchers("/api/user/**").authenticated()
                 .requestMatchers("/api/my-external-id").authenticated()
@@ -0,0 +1,259 @@
+package com.ksj.clouddoctorweb.config;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 파일 캐시 헤더 / 메모리 매핑 리졸버
+ * EncodedResourceResolver 앞에 두어 압축본이 선택된 뒤의 리소스를 감쌈
+ * - 파일명에 내용 해시가 있으면 (CRA 빌드: main.3f2a1b9c.js, 787.a1b2c3d4.chunk.css 등) 1년 immutable
+ * - 해시가 없으면 (index.html, manifest.json 등) 등록 시 지정한 no-cache 그대로 → Last-Modified 로 재검증
+ * - 로컬 파일이고 max-file-bytes 이하면 총량 max-total-bytes 까지 메모리 매핑
+ *   (파일 경로별로 한 번만 매핑, 파일이 사라지거나 수정 시각이 바뀌면 매핑을 해제하고 총량에서 뺌)
+ */
+@Log4j2
+public class StaticAssetResolver extends AbstractResourceResolver {
+
+    private static final Pattern HASHED_FILENAME = Pattern.compile("^.+\\.[0-9a-f]{8,}(\\.[A-Za-z0-9]+)+$");
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final long maxFileBytes;
+    private final long maxTotalBytes;
+    private final AtomicLong mappedBytes = new AtomicLong();
+    private final Map<Path, Mapping> mappings = new ConcurrentHashMap<>();
+
+    public StaticAssetResolver(long maxFileBytes, long maxTotalBytes) {
+        this.maxFileBytes = maxFileBytes;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (resource instanceof HttpResource httpResource) {
+            // Content-Encoding / Vary (압축본일 때)
+            headers.putAll(httpResource.getResponseHeaders());
+        }
+        String filename = resource.getFilename();
+        if (filename != null && HASHED_FILENAME.matcher(filename).matches()) {
+            headers.setCacheControl(IMMUTABLE);
+        }
+        return new AssetResource(resource, headers, map(resource));
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * 파일 경로의 기존 매핑을 재사용 (파일이 바뀌었으면 다시 매핑)
+     * 매핑 대상이 아니거나 총량을 넘으면 null (일반 스트림으로 전송)
+     */
+    @Nullable
+    private Mapping map(Resource resource) {
+        File file;
+        try {
+            if (!resource.isFile()) {
+                return null;
+            }
+            file = resource.getFile();
+        } catch (IOException e) {
+            return null;
+        }
+        Path path = file.toPath().toAbsolutePath().normalize();
+        long size = file.length();
+        long lastModified = file.lastModified();
+
+        Mapping current = mappings.get(path);
+        if (current != null && current.matches(size, lastModified)) {
+            return current;
+        }
+        if (current != null) {
+            release(path, current);
+        }
+        if (size == 0 || size > maxFileBytes) {
+            return null;
+        }
+        if (mappedBytes.get() + size > maxTotalBytes) {
+            // 사라졌거나 바뀐 파일의 매핑을 정리한 뒤 다시 확인
+            releaseStale();
+        }
+        if (mappedBytes.addAndGet(size) > maxTotalBytes) {
+            mappedBytes.addAndGet(-size);
+            return null;
+        }
+
+        Mapping mapping;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapping = new Mapping(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), size, lastModified);
+        } catch (IOException e) {
+            mappedBytes.addAndGet(-size);
+            log.warn("정적 파일 메모리 매핑 실패: {} ({})", resource.getDescription(), e.getMessage());
+            return null;
+        }
+        // 동시에 같은 파일을 매핑한 요청이 있으면 먼저 등록된 매핑을 사용
+        Mapping registered = mappings.putIfAbsent(path, mapping);
+        if (registered != null) {
+            mappedBytes.addAndGet(-size);
+            return registered;
+        }
+        return mapping;
+    }
+
+    /**
+     * 파일이 사라졌거나 크기/수정 시각이 바뀐 매핑 해제
+     */
+    private void releaseStale() {
+        mappings.forEach((path, mapping) -> {
+            File file = path.toFile();
+            if (!file.isFile() || !mapping.matches(file.length(), file.lastModified())) {
+                release(path, mapping);
+            }
+        });
+    }
+
+    /**
+     * 매핑을 목록에서 빼고 총량에서 차감 (버퍼는 참조하는 응답이 끝난 뒤 GC 시 해제)
+     */
+    private void release(Path path, Mapping mapping) {
+        if (mappings.remove(path, mapping)) {
+            mappedBytes.addAndGet(-mapping.size());
+        }
+    }
+
+    /**
+     * 파일 하나의 매핑 (매핑 당시 크기/수정 시각)
+     */
+    private record Mapping(MappedByteBuffer buffer, long size, long lastModified) {
+
+        boolean matches(long currentSize, long currentLastModified) {
+            return size == currentSize && lastModified == currentLastModified;
+        }
+    }
+
+    /**
+     * 응답 헤더와 매핑 버퍼를 덧붙인 리소스 (파일명/길이/수정 시각은 원본 그대로)
+     * 매핑 후 파일이 바뀌었으면 (재배포) 매핑을 버리고 원본에서 읽음 (해제는 다음 resolve 또는 정리 시)
+     */
+    private static final class AssetResource extends AbstractResource implements HttpResource {
+
+        private final Resource delegate;
+        private final HttpHeaders headers;
+        @Nullable
+        private final Mapping mapped;
+
+        AssetResource(Resource delegate, HttpHeaders headers, @Nullable Mapping mapped) {
+            this.delegate = delegate;
+            this.headers = headers;
+            this.mapped = mapped;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (mapped != null && lastModifiedOf(delegate) == mapped.lastModified()) {
+                return new ByteBufferBackedInputStream(mapped.buffer().duplicate());
+            }
+            return delegate.getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return delegate.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return delegate.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return delegate.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return delegate.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return delegate.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return delegate.getFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return delegate.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return delegate.createRelative(relativePath);
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return delegate.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return headers;
+        }
+
+        private static long lastModifiedOf(Resource resource) {
+            try {
+                return resource.lastModified();
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+}
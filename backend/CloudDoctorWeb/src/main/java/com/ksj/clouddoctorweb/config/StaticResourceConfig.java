@@ -0,0 +1,41 @@
+package com.ksj.clouddoctorweb.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+/**
+ * 프론트엔드 정적 파일 서빙 설정 (spring.web.resources.static-locations 기준)
+ * - Accept-Encoding 에 따라 미리 압축해 둔 .br / .gz 파일 전송 (EncodedResourceResolver)
+ * - 내용 해시가 들어간 파일명만 1년 immutable, index.html 등 나머지는 매번 재검증 (StaticAssetResolver)
+ * - 자주 쓰는 작은 파일은 메모리 매핑하여 전송
+ * 해석 결과는 요청 경로 + 인코딩별로 캐시되므로 파일 탐색/매핑은 처음 한 번만 수행
+ */
+@Configuration
+@RequiredArgsConstructor
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final WebProperties webProperties;
+
+    @Value("${static-assets.mmap.max-file-bytes:2097152}")
+    private long mmapMaxFileBytes;
+
+    @Value("${static-assets.mmap.max-total-bytes:67108864}")
+    private long mmapMaxTotalBytes;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Spring Boot 기본 정적 리소스 핸들러가 먼저 /** 에 등록되고, 같은 패턴인 이 핸들러가 나중에 등록되어 덮어씀
+        registry.addResourceHandler("/**")
+            .addResourceLocations(webProperties.getResources().getStaticLocations())
+            .setCacheControl(CacheControl.noCache())
+            .resourceChain(true)
+            .addResolver(new StaticAssetResolver(mmapMaxFileBytes, mmapMaxTotalBytes))
+            .addResolver(new EncodedResourceResolver());
+    }
+}
@@ -1,7 +1,13 @@
 package com.ksj.clouddoctorweb.controller;
 
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionReport;
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionRequest;
+import com.ksj.clouddoctorweb.dto.CatalogImportReport;
 import com.ksj.clouddoctorweb.dto.GuidelineRequest;
 import com.ksj.clouddoctorweb.dto.GuidelineLinkRequest;
+import com.ksj.clouddoctorweb.dto.ImageUploadConfirmRequest;
+import com.ksj.clouddoctorweb.dto.ImageUploadPresignRequest;
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
 import com.ksj.clouddoctorweb.dto.ServiceListRequest;
 import com.ksj.clouddoctorweb.dto.ServiceListResponse;
 import com.ksj.clouddoctorweb.dto.ChecklistRequest;
@@ -13,19 +19,31 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.multipart.MultipartFile;
-import com.ksj.clouddoctorweb.service.S3Service;
+import com.ksj.clouddoctorweb.service.CatalogTransferService;
+import com.ksj.clouddoctorweb.service.CheckGuidelineIndex;
+import com.ksj.clouddoctorweb.service.GuidelineImageDerivativeService;
+import com.ksj.clouddoctorweb.service.GuidelineImageService;
+import com.ksj.clouddoctorweb.service.GuidelineLinkService;
+import com.ksj.clouddoctorweb.service.UserProvisioningService;
 
 /**
  * 관리자 전용 컨트롤러
@@ -44,9 +62,14 @@ public class AdminController {
     private final UserRepository userRepository;
     private final GuidelineRepository guidelineRepository;
     private final GuidelineLinkRepository guidelineLinkRepository;
-    private final ChecklistRepository checklistRepository;
-    private final Optional<S3Service> s3Service;
     private final GuidelineSolutionImageRepository guidelineSolutionImageRepository;
+    private final ChecklistRepository checklistRepository;
+    private final CheckGuidelineIndex checkGuidelineIndex;
+    private final CatalogTransferService catalogTransferService;
+    private final GuidelineLinkService guidelineLinkService;
+    private final GuidelineImageService guidelineImageService;
+    private final GuidelineImageDerivativeService guidelineImageDerivativeService;
+    private final UserProvisioningService userProvisioningService;
     
     /**
      * 서비스 리스트 생성
@@ -100,7 +123,7 @@ public class AdminController {
                                                    Authentication authentication) {
         log.info("서비스 수정 요청: id={}, name={}, displayName={}", id, request.getName(), request.getDisplayName());
         
-        ServiceList serviceList = serviceListRepository.findById(id)
+        ServiceList serviceList = serviceListRepository.findWithCloudProviderById(id)
             .orElseThrow(() -> new RuntimeException("서비스를 찾을 수 없습니다"));
         
         // 필수 필드 검증
@@ -120,7 +143,8 @@ public class AdminController {
         
         ServiceList updated = serviceListRepository.save(serviceList);
         log.info("서비스 수정 성공: {}", updated.getName());
-        return ResponseEntity.ok(ServiceListResponse.from(updated));
+        // merge 결과는 연관 엔티티가 초기화되지 않은 상태이므로 페치 플랜으로 조회한 엔티티로 응답
+        return ResponseEntity.ok(ServiceListResponse.from(serviceList));
     }
     
     /**
@@ -171,6 +195,15 @@ public class AdminController {
         return ResponseEntity.ok(userRepository.findAll());
     }
     
+    /**
+     * 사용자 일괄 생성
+     */
+    @Operation(summary = "사용자 일괄 생성", description = "ADMIN 전용: 회사 단위 계정 일괄 생성 (중복/검증 실패 항목은 건너뛰고 항목별 결과 반환)")
+    @PostMapping("/users/bulk")
+    public ResponseEntity<BulkUserProvisionReport> provisionUsers(@RequestBody BulkUserProvisionRequest request) {
+        return ResponseEntity.ok(userProvisioningService.provision(request));
+    }
+    
     /**
      * 가이드라인 생성
      */
@@ -204,19 +237,10 @@ public class AdminController {
         guideline.setCreatedBy(admin);
         
         Guideline saved = guidelineRepository.save(guideline);
+        checkGuidelineIndex.invalidate();
         
-        // 링크 처리
-        if (request.getLinks() != null && !request.getLinks().isEmpty()) {
-            for (GuidelineLinkRequest linkDto : request.getLinks()) {
-                if (linkDto.getUrl() != null && !linkDto.getUrl().trim().isEmpty()) {
-                    GuidelineLink link = new GuidelineLink();
-                    link.setGuideline(saved);
-                    link.setTitle(linkDto.getTitle());
-                    link.setUrl(linkDto.getUrl().trim());
-                    guidelineLinkRepository.save(link);
-                }
-            }
-        }
+        // 링크 처리 (한 번의 배치 INSERT)
+        List<GuidelineLinkRequest> linkDtos = guidelineLinkService.syncLinks(saved.getId(), request.getLinks());
         
         log.info("가이드라인 생성 성공: {}", saved.getTitle());
         
@@ -235,11 +259,6 @@ public class AdminController {
         response.put("note", saved.getNote());
         response.put("createdAt", saved.getCreatedAt());
         
-        // 생성된 링크 조회
-        List<GuidelineLink> links = guidelineLinkRepository.findByGuidelineId(saved.getId());
-        List<GuidelineLinkRequest> linkDtos = links.stream()
-            .map(link -> new GuidelineLinkRequest(link.getTitle(), link.getUrl()))
-            .toList();
         response.put("links", linkDtos);
         
         return ResponseEntity.ok(response);
@@ -335,29 +354,16 @@ public class AdminController {
         
         Guideline updated = guidelineRepository.save(guideline);
         
-        // 가이드라인의 서비스가 변경된 경우 관련 체크리스트도 업데이트
+        // 가이드라인의 서비스가 변경된 경우 관련 체크리스트도 한 번의 벌크 UPDATE 로 재배정
         if (serviceChanged) {
-            List<Checklist> relatedChecklists = checklistRepository.findByGuidelineId(id);
-            for (Checklist checklist : relatedChecklists) {
-                checklist.setServiceList(serviceList);
-                checklistRepository.save(checklist);
-            }
-            log.info("가이드라인 서비스 변경으로 인한 체크리스트 업데이트: {} 개", relatedChecklists.size());
+            int reassigned = checklistRepository.reassignByGuidelineId(id, serviceList, provider);
+            log.info("가이드라인 서비스 변경으로 인한 체크리스트 업데이트: {} 개", reassigned);
         }
+        // 체크리스트 재배정까지 끝난 뒤 무효화 (그 사이 재구성되어 이전 상태가 남지 않도록)
+        checkGuidelineIndex.invalidate();
         
-        // 기존 링크 삭제 후 새 링크 추가
-        guidelineLinkRepository.deleteByGuidelineId(id);
-        if (request.getLinks() != null && !request.getLinks().isEmpty()) {
-            for (GuidelineLinkRequest linkDto : request.getLinks()) {
-                if (linkDto.getUrl() != null && !linkDto.getUrl().trim().isEmpty()) {
-                    GuidelineLink link = new GuidelineLink();
-                    link.setGuideline(updated);
-                    link.setTitle(linkDto.getTitle());
-                    link.setUrl(linkDto.getUrl().trim());
-                    guidelineLinkRepository.save(link);
-                }
-            }
-        }
+        // 기존 링크와 비교하여 추가/변경/삭제된 링크만 반영
+        List<GuidelineLinkRequest> linkDtos = guidelineLinkService.syncLinks(id, request.getLinks());
         
         log.info("가이드라인 수정 성공: {}", updated.getTitle());
         
@@ -374,11 +380,6 @@ public class AdminController {
         response.put("sideEffects", updated.getSideEffects());
         response.put("note", updated.getNote());
         
-        // 업데이트된 링크 조회
-        List<GuidelineLink> links = guidelineLinkRepository.findByGuidelineId(id);
-        List<GuidelineLinkRequest> linkDtos = links.stream()
-            .map(link -> new GuidelineLinkRequest(link.getTitle(), link.getUrl()))
-            .toList();
         response.put("links", linkDtos);
         
         return ResponseEntity.ok(response);
@@ -391,10 +392,41 @@ public class AdminController {
     @DeleteMapping("/guidelines/{id}")
     public ResponseEntity<Void> deleteGuideline(@PathVariable Long id) {
         guidelineRepository.deleteById(id);
+        checkGuidelineIndex.invalidate();
         log.info("가이드라인 삭제: ID {}", id);
         return ResponseEntity.ok().build();
     }
     
+    /**
+     * 카탈로그 일괄 가져오기
+     */
+    @Operation(summary = "카탈로그 가져오기", description = "ADMIN 전용: 서비스/가이드라인/링크/체크리스트 번들(JSON 배열 또는 NDJSON)을 한 트랜잭션으로 일괄 등록하고 레코드별 결과 반환")
+    @PostMapping("/catalog/import")
+    public ResponseEntity<CatalogImportReport> importCatalog(HttpServletRequest request,
+                                                             Authentication authentication) throws IOException {
+        User admin = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("관리자를 찾을 수 없습니다"));
+        
+        // 요청 본문을 DTO 로 한 번에 바인딩하지 않고 스트림으로 넘겨 레코드 단위로 읽음
+        CatalogImportReport report = catalogTransferService.importBundle(admin.getId(), request.getInputStream());
+        checkGuidelineIndex.invalidate();
+        return ResponseEntity.ok(report);
+    }
+    
+    /**
+     * 카탈로그 일괄 내보내기
+     */
+    @Operation(summary = "카탈로그 내보내기", description = "ADMIN 전용: 전체 서비스/가이드라인/링크/체크리스트를 가져오기와 같은 NDJSON 형식으로 내보내기")
+    @GetMapping("/catalog/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog() {
+        String filename = "clouddoctor-catalog-" + LocalDate.now() + ".ndjson";
+        StreamingResponseBody body = catalogTransferService::exportBundle;
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+    
     /**
      * 사용자 External ID 조회
      */
@@ -438,6 +470,7 @@ public class AdminController {
         checklist.setCreatedBy(admin);
         
         Checklist saved = checklistRepository.save(checklist);
+        checkGuidelineIndex.invalidate();
         return ResponseEntity.ok(ChecklistResponse.from(saved));
     }
     
@@ -467,7 +500,7 @@ public class AdminController {
     @Operation(summary = "체크리스트 조회", description = "ADMIN 전용: 개별 체크리스트 조회")
     @GetMapping("/checklists/{id}")
     public ResponseEntity<ChecklistResponse> getChecklist(@PathVariable Long id) {
-        Checklist checklist = checklistRepository.findById(id)
+        Checklist checklist = checklistRepository.findWithAssociationsById(id)
             .orElseThrow(() -> new RuntimeException("체크리스트를 찾을 수 없습니다"));
         return ResponseEntity.ok(ChecklistResponse.from(checklist));
     }
@@ -478,7 +511,7 @@ public class AdminController {
     @Operation(summary = "체크리스트 수정", description = "ADMIN 전용: 개별 체크리스트 수정")
     @PutMapping("/checklists/{id}")
     public ResponseEntity<ChecklistResponse> updateChecklist(@PathVariable Long id, @RequestBody ChecklistRequest request) {
-        Checklist checklist = checklistRepository.findById(id)
+        Checklist checklist = checklistRepository.findWithAssociationsById(id)
             .orElseThrow(() -> new RuntimeException("체크리스트를 찾을 수 없습니다"));
         
         checklist.setTitle(request.getTitle());
@@ -497,8 +530,10 @@ public class AdminController {
             checklist.setGuideline(guideline);
         }
         
-        Checklist updated = checklistRepository.save(checklist);
-        return ResponseEntity.ok(ChecklistResponse.from(updated));
+        checklistRepository.save(checklist);
+        checkGuidelineIndex.invalidate();
+        // merge 결과는 연관 엔티티가 초기화되지 않은 상태이므로 페치 플랜으로 조회한 엔티티로 응답
+        return ResponseEntity.ok(ChecklistResponse.from(checklist));
     }
 
 
@@ -509,42 +544,71 @@ public class AdminController {
     @DeleteMapping("/checklists/{id}")
     public ResponseEntity<Void> deleteChecklist(@PathVariable Long id) {
         checklistRepository.deleteById(id);
+        checkGuidelineIndex.invalidate();
         return ResponseEntity.ok().build();
     }
     
     /**
      * 가이드라인 이미지 업로드
      */
-    @Operation(summary = "가이드라인 이미지 업로드", description = "ADMIN 전용: 가이드라인 캐처 이미지 S3 업로드")
+    @Operation(summary = "가이드라인 이미지 업로드", description = "ADMIN 전용: 가이드라인 캐처 이미지 S3 업로드 (서버 경유)")
     @PostMapping("/guidelines/{id}/images")
-    public ResponseEntity<Map<String, String>> uploadGuidelineImage(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> uploadGuidelineImage(
             @PathVariable Long id,
             @RequestParam("image") MultipartFile file,
-            Authentication authentication) {
-        try {
-            Guideline guideline = guidelineRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("가이드라인을 찾을 수 없습니다"));
-            
-            if (!s3Service.isPresent()) {
-                throw new RuntimeException("S3 서비스가 비활성화되어 있습니다");
-            }
-            String imageUrl = s3Service.get().uploadImage(file, "guidelines");
-            
-            GuidelineSolutionImage solutionImage = new GuidelineSolutionImage();
-            solutionImage.setGuideline(guideline);
-            solutionImage.setImageUrl(imageUrl);
-            solutionImage.setDisplayOrder(1); // 기본 순서
-            
-            guidelineSolutionImageRepository.save(solutionImage);
-            
-            Map<String, String> response = new HashMap<>();
-            response.put("imageUrl", imageUrl);
-            response.put("message", "이미지 업로드 성공");
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("이미지 업로드 실패: ", e);
-            throw new RuntimeException("이미지 업로드에 실패했습니다: " + e.getMessage());
-        }
+            Authentication authentication) throws IOException {
+        // S3 전송이 끝날 때까지 요청 스레드를 붙잡지 않도록 future 로 반환 (비동기 디스패치로 응답)
+        return guidelineImageService.upload(id, file)
+            .thenApply(solutionImage -> {
+                Map<String, String> response = new HashMap<>();
+                response.put("imageUrl", solutionImage.getImageUrl());
+                response.put("message", "이미지 업로드 성공");
+                return ResponseEntity.ok(response);
+            });
+    }
+    
+    /**
+     * 가이드라인 이미지 목록
+     */
+    @Operation(summary = "가이드라인 이미지 목록", description = "ADMIN 전용: 조치방안 이미지와 썸네일 / 중간 크기 파생본 URL (생성 전이면 null)")
+    @GetMapping("/guidelines/{id}/images")
+    public ResponseEntity<List<GuidelineSolutionImage>> getGuidelineImages(@PathVariable Long id) {
+        return ResponseEntity.ok(guidelineSolutionImageRepository.findByGuidelineIdOrderByDisplayOrderAsc(id));
+    }
+    
+    /**
+     * 이미지 파생본 백필
+     */
+    @Operation(summary = "이미지 파생본 백필", description = "ADMIN 전용: 파생본이 없는 기존 이미지의 썸네일 / 중간 크기 생성 예약")
+    @PostMapping("/guidelines/images/derivatives")
+    public ResponseEntity<Map<String, Object>> rebuildImageDerivatives() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("scheduled", guidelineImageDerivativeService.scheduleMissing());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 가이드라인 이미지 직접 업로드 URL 발급
+     */
+    @Operation(summary = "이미지 업로드 URL 발급", description = "ADMIN 전용: 브라우저가 S3 로 직접 PUT 할 Presigned URL 발급 (응답의 contentType 으로 업로드 후 confirm 호출)")
+    @PostMapping("/guidelines/{id}/images/presign")
+    public ResponseEntity<PresignedUploadResponse> presignGuidelineImage(@PathVariable Long id,
+                                                                         @RequestBody ImageUploadPresignRequest request) {
+        return ResponseEntity.ok(guidelineImageService.presignUpload(id, request));
+    }
+    
+    /**
+     * 가이드라인 이미지 직접 업로드 확인
+     */
+    @Operation(summary = "이미지 업로드 확인", description = "ADMIN 전용: 직접 업로드된 S3 객체를 확인하고 조치방안 이미지로 등록")
+    @PostMapping("/guidelines/{id}/images/confirm")
+    public ResponseEntity<Map<String, String>> confirmGuidelineImage(@PathVariable Long id,
+                                                                     @RequestBody ImageUploadConfirmRequest request) {
+        GuidelineSolutionImage solutionImage = guidelineImageService.confirmUpload(id, request.getKey());
+        
+        Map<String, String> response = new HashMap<>();
+        response.put("imageUrl", solutionImage.getImageUrl());
+        response.put("message", "이미지 업로드 성공");
+        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
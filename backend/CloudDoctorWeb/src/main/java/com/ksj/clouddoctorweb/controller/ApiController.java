@@ -2,6 +2,7 @@ package com.ksj.clouddoctorweb.controller;
 
 import com.ksj.clouddoctorweb.dto.ServiceListResponse;
 import com.ksj.clouddoctorweb.dto.ChecklistResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistResultSummary;
 import com.ksj.clouddoctorweb.dto.GuidelineLinkRequest;
 import com.ksj.clouddoctorweb.entity.*;
 import com.ksj.clouddoctorweb.repository.*;
@@ -9,6 +10,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -153,13 +157,16 @@ public class ApiController {
     /**
      * 사용자의 체크리스트 결과 목록 조회
      * @param userId 사용자 ID
-     * @return 사용자 체크리스트 결과 리스트
+     * @return 사용자 체크리스트 결과 요약 (페이지 단위)
      */
-    @Operation(summary = "사용자 체크리스트 결과", description = "사용자가 저장한 체크리스트 점검 결과 목록")
+    @Operation(summary = "사용자 체크리스트 결과", description = "사용자가 저장한 체크리스트 점검 결과 요약 목록 (페이지 단위)")
     @GetMapping("/user-checklists/{userId}")
-    public List<UserChecklistResult> getUserChecklists(@PathVariable Long userId) {
+    public Page<ChecklistResultSummary> getUserChecklists(@PathVariable Long userId,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size) {
         log.info("사용자 ID {} 의 체크리스트 결과 조회 요청", userId);
-        return userChecklistResultRepository.findByUserId(userId);
+        return userChecklistResultRepository.findSummariesByUserId(userId,
+            PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100), Sort.by(Sort.Direction.DESC, "id")));
     }
     
     /**
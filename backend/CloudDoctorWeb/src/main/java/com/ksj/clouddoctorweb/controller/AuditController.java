@@ -0,0 +1,119 @@
+package com.ksj.clouddoctorweb.controller;
+
+import com.ksj.clouddoctorweb.dto.AuditDiffResponse;
+import com.ksj.clouddoctorweb.dto.AuditRunResponse;
+import com.ksj.clouddoctorweb.dto.AuditScheduleRequest;
+import com.ksj.clouddoctorweb.dto.AuditScheduleResponse;
+import com.ksj.clouddoctorweb.dto.AuditTrendPoint;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.repository.UserRepository;
+import com.ksj.clouddoctorweb.service.AuditRunService;
+import com.ksj.clouddoctorweb.service.AuditScheduleService;
+import com.ksj.clouddoctorweb.service.AuditTrendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 인프라 점검 이력 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/user/audit")
+@RequiredArgsConstructor
+@Log4j2
+@Tag(name = "인프라 점검 이력", description = "인프라 점검 실행 이력, 실행 간 비교, 추이 및 정기 점검 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AuditController {
+    
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_TREND_DAYS = 365;
+    
+    private final UserRepository userRepository;
+    private final AuditRunService auditRunService;
+    private final AuditScheduleService auditScheduleService;
+    private final AuditTrendService auditTrendService;
+    
+    @Operation(summary = "점검 실행 이력 조회", description = "내 인프라 점검 실행 이력 (최신순, accountId 로 필터 가능)")
+    @GetMapping("/runs")
+    public ResponseEntity<Page<AuditRunResponse>> getRuns(@RequestParam(required = false) String accountId,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          Authentication authentication) {
+        User user = currentUser(authentication);
+        return ResponseEntity.ok(auditRunService.getRuns(user.getId(), accountId, PageRequest.of(page, clampSize(size))));
+    }
+    
+    @Operation(summary = "점검 실행 간 비교", description = "두 점검 실행을 (check_id, resource_id) 기준으로 비교: 신규 실패 / 해결 / 지속 실패 / 변화 없음")
+    @GetMapping("/runs/{baseRunId}/diff/{targetRunId}")
+    public ResponseEntity<AuditDiffResponse> diffRuns(@PathVariable Long baseRunId,
+                                                      @PathVariable Long targetRunId,
+                                                      @RequestParam(required = false) AuditDiffResponse.DiffType type,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(defaultValue = "100") int size,
+                                                      Authentication authentication) {
+        User user = currentUser(authentication);
+        log.info("점검 실행 비교 요청: user={}, base={}, target={}, type={}", user.getUsername(), baseRunId, targetRunId, type);
+        return ResponseEntity.ok(auditRunService.diff(user.getId(), baseRunId, targetRunId, type, Math.max(page, 0), clampSize(size)));
+    }
+    
+    @Operation(summary = "점검 추이 조회", description = "최근 N일간 일자별 실패 점검 항목 수 (groupBy: SERVICE, CHECK, ACCOUNT)")
+    @GetMapping("/trends")
+    public ResponseEntity<List<AuditTrendPoint>> getTrends(@RequestParam(required = false) String accountId,
+                                                           @RequestParam(defaultValue = "90") int days,
+                                                           @RequestParam(defaultValue = "SERVICE") AuditTrendService.GroupBy groupBy,
+                                                           Authentication authentication) {
+        User user = currentUser(authentication);
+        int clampedDays = Math.min(Math.max(days, 1), MAX_TREND_DAYS);
+        return ResponseEntity.ok(auditTrendService.getTrends(user.getId(), accountId, clampedDays, groupBy));
+    }
+    
+    @Operation(summary = "정기 점검 목록", description = "내가 등록한 정기 인프라 점검 목록")
+    @GetMapping("/schedules")
+    public ResponseEntity<List<AuditScheduleResponse>> getSchedules(Authentication authentication) {
+        User user = currentUser(authentication);
+        return ResponseEntity.ok(auditScheduleService.getSchedules(user.getId()));
+    }
+    
+    @Operation(summary = "정기 점검 등록", description = "계정별 매일/매주 정기 인프라 점검 등록 (실행 시각은 지정한 정각 이후로 분산)")
+    @PostMapping("/schedules")
+    public ResponseEntity<AuditScheduleResponse> createSchedule(@RequestBody AuditScheduleRequest request,
+                                                                Authentication authentication) {
+        User user = currentUser(authentication);
+        return ResponseEntity.ok(auditScheduleService.createSchedule(user, request));
+    }
+    
+    @Operation(summary = "정기 점검 수정", description = "정기 인프라 점검 주기/시각/사용 여부 수정")
+    @PutMapping("/schedules/{scheduleId}")
+    public ResponseEntity<AuditScheduleResponse> updateSchedule(@PathVariable Long scheduleId,
+                                                                @RequestBody AuditScheduleRequest request,
+                                                                Authentication authentication) {
+        User user = currentUser(authentication);
+        return ResponseEntity.ok(auditScheduleService.updateSchedule(user, scheduleId, request));
+    }
+    
+    @Operation(summary = "정기 점검 삭제", description = "정기 인프라 점검 삭제")
+    @DeleteMapping("/schedules/{scheduleId}")
+    public ResponseEntity<Void> deleteSchedule(@PathVariable Long scheduleId, Authentication authentication) {
+        User user = currentUser(authentication);
+        auditScheduleService.deleteSchedule(user.getId(), scheduleId);
+        return ResponseEntity.ok().build();
+    }
+    
+    private User currentUser(Authentication authentication) {
+        return userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    }
+    
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ksj.clouddoctorweb.controller;
+
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.repository.UserRepository;
+import com.ksj.clouddoctorweb.service.ExportService;
+import com.ksj.clouddoctorweb.util.ExportRowWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 내보내기 컨트롤러
+ * 응답은 StreamingResponseBody 로 별도 스레드에서 DB 커서를 읽으며 바로 기록
+ */
+@RestController
+@RequestMapping("/api/user/export")
+@RequiredArgsConstructor
+@Tag(name = "내보내기", description = "체크리스트 결과 / 인프라 점검 결과 CSV, NDJSON 내보내기 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserRepository userRepository;
+    private final ExportService exportService;
+
+    @Operation(summary = "체크리스트 결과 내보내기", description = "내 체크리스트 답변을 CSV 또는 NDJSON 으로 내보내기 (resultId 로 특정 결과지만 가능)")
+    @GetMapping("/checklists")
+    public ResponseEntity<StreamingResponseBody> exportChecklists(@RequestParam(required = false) Long resultId,
+                                                                  @RequestParam(defaultValue = "CSV") ExportRowWriter.Format format,
+                                                                  Authentication authentication) {
+        // 스트리밍은 별도 스레드에서 실행되므로 인증 정보는 요청 스레드에서 미리 확인
+        User user = currentUser(authentication);
+        StreamingResponseBody body = out -> exportService.exportChecklistResults(user.getId(), resultId, format, out);
+        return attachment("checklist-results", format, body);
+    }
+
+    @Operation(summary = "점검 결과 내보내기", description = "내 인프라 점검 결과를 CSV 또는 NDJSON 으로 내보내기 (runId, accountId 로 필터 가능)")
+    @GetMapping("/audit-findings")
+    public ResponseEntity<StreamingResponseBody> exportAuditFindings(@RequestParam(required = false) Long runId,
+                                                                     @RequestParam(required = false) String accountId,
+                                                                     @RequestParam(defaultValue = "CSV") ExportRowWriter.Format format,
+                                                                     Authentication authentication) {
+        User user = currentUser(authentication);
+        StreamingResponseBody body = out -> exportService.exportAuditFindings(user.getId(), runId, accountId, format, out);
+        return attachment("audit-findings", format, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportRowWriter.Format format, StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + (format == ExportRowWriter.Format.CSV ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .contentType(format == ExportRowWriter.Format.CSV ? TEXT_CSV : APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private User currentUser(Authentication authentication) {
+        return userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    }
+}
@@ -0,0 +1,180 @@
+package com.ksj.clouddoctorweb.controller;
+
+import com.ksj.clouddoctorweb.service.S3Service;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 저장소 파일 전송 컨트롤러 (/files/{key})
+ * - 로컬 저장소는 원본 파일, S3 는 디스크 캐시 사본을 전송
+ * - Tomcat sendfile 을 지원하면 커널에서 바로 전송, 아니면 FileChannel.transferTo
+ * - Range (단일 구간), If-None-Match / If-Modified-Since, If-Range 지원
+ * - 객체 키에 UUID 또는 내용 해시가 포함되어 내용이 바뀌지 않으므로 immutable 캐시
+ * - 가이드라인 이미지 키(guidelines/)만 전송
+ */
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+@Tag(name = "파일", description = "가이드라인 이미지 등 저장소 파일 전송 API")
+public class FileController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final S3Service storageService;
+
+    @Operation(summary = "파일 조회", description = "저장소 파일 전송 (Range / 조건부 요청 지원)")
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = keyOf(request);
+        if (!key.startsWith(S3Service.PUBLIC_KEY_PREFIX)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path file = storageService.localPath(key);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try {
+            send(request, response, key, file);
+        } finally {
+            storageService.releaseLocalPath(key);
+        }
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response, String key, Path file) throws IOException {
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // ETag / Last-Modified 설정, 클라이언트 사본이 최신이면 304
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        // S3 캐시 파일 이름은 해시이므로 형식은 객체 키 확장자로 판단
+        response.setContentType(MediaTypeFactory.getMediaType(key)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            // 여러 구간 요청은 multipart/byteranges 대신 전체 응답 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (storageService.isSendfileSafe() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 컨테이너가 sendfile 로 직접 전송 (end 는 미포함 위치)
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    @Operation(summary = "파일 직접 업로드", description = "로컬 저장소용 서명된 업로드 URL (Presigned PUT 과 같은 방식)")
+    @PutMapping("/**")
+    public void upload(@RequestParam long expires,
+                       @RequestParam String signature,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        storageService.receiveSignedUpload(keyOf(request), request.getContentType(), request.getContentLengthLong(),
+            expires, signature, request.getInputStream());
+        response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    /**
+     * /files/ 뒤의 경로를 디코딩하여 객체 키로 사용
+     */
+    private static String keyOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = UriUtils.decode(path.substring("/files/".length()), StandardCharsets.UTF_8);
+        if (key.isBlank() || key.contains("..")) {
+            throw new RuntimeException("잘못된 파일 경로입니다");
+        }
+        return key;
+    }
+
+    /**
+     * If-Range 가 없거나 현재 파일과 일치할 때만 부분 응답 (다르면 전체 응답)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
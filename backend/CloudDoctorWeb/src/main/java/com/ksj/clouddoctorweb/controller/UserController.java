@@ -1,32 +1,48 @@
 package com.ksj.clouddoctorweb.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.AuditJobResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistDraftRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistDraftResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistPatchRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistPatchResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistResultSummary;
+import com.ksj.clouddoctorweb.dto.ChecklistScoreResponse;
 import com.ksj.clouddoctorweb.dto.ChangePasswordRequest;
+import com.ksj.clouddoctorweb.dto.InfraAuditBatchRequest;
 import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
 import com.ksj.clouddoctorweb.dto.SaveChecklistRequest;
 import com.ksj.clouddoctorweb.entity.User;
 import com.ksj.clouddoctorweb.entity.UserChecklistResult;
+import com.ksj.clouddoctorweb.exception.AuditQueueFullException;
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
 import com.ksj.clouddoctorweb.repository.UserChecklistResultRepository;
 import com.ksj.clouddoctorweb.repository.UserRepository;
+import com.ksj.clouddoctorweb.service.AuditJob;
+import com.ksj.clouddoctorweb.service.AuditSchedulerService;
+import com.ksj.clouddoctorweb.service.BatchAuditService;
+import com.ksj.clouddoctorweb.service.ChecklistDraftService;
+import com.ksj.clouddoctorweb.service.InfraAuditService;
+import com.ksj.clouddoctorweb.service.UserChecklistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.web.client.RestTemplate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api/user")
@@ -39,10 +55,14 @@ public class UserController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserChecklistResultRepository checklistResultRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditSchedulerService auditSchedulerService;
+    private final InfraAuditService infraAuditService;
+    private final BatchAuditService batchAuditService;
+    private final UserChecklistService userChecklistService;
+    private final ChecklistDraftService checklistDraftService;
     
-    @Value("${infraaudit.api.url}")
-    private String infraauditApiUrl;
+    @Value("${infraaudit.scheduler.await-timeout-seconds:120}")
+    private long auditAwaitTimeoutSeconds;
     
     @Operation(summary = "내 정보 조회", description = "로그인한 사용자의 정보 조회")
     @GetMapping("/me")
@@ -81,39 +101,70 @@ public class UserController {
                 );
             }
             
-            // TODO: 진행 중인 점검 확인 로직 추가
-            
-            // Python infraaudit API 호출
-            String pythonApiUrl = infraauditApiUrl + "/api/audit/start";
-            
-            // 요청 데이터 준비
-            Map<String, Object> auditRequest = new HashMap<>();
-            auditRequest.put("account_id", request.getAccountId());
-            auditRequest.put("role_name", request.getRoleName());
-            auditRequest.put("external_id", request.getExternalId());
-            auditRequest.put("checks", request.getChecks());
-            
-            // HTTP 요청 전송
-            RestTemplate restTemplate = new RestTemplate();
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(auditRequest, headers);
-            
-            log.info("파이썬 API 요청: URL={}, data={}", pythonApiUrl, auditRequest);
-            
-            ResponseEntity<String> pythonResponse = restTemplate.postForEntity(pythonApiUrl, entity, String.class);
-            
-            log.info("인프라 점검 시작 성공: user={}, accountId={}, response={}", 
-                user.getUsername(), request.getAccountId(), pythonResponse.getBody());
+            // 점검 대기열 등록 (전역 동시 실행 상한 + 회사/사용자 공정 분배)
+            AuditJob job = auditSchedulerService.submit(user, request.getAccountId(),
+                () -> infraAuditService.runAudit(user, request));
             
-            return ResponseEntity.ok(pythonResponse.getBody());
+            try {
+                Object result = job.getFuture().get(auditAwaitTimeoutSeconds, TimeUnit.SECONDS);
+                log.info("인프라 점검 완료: user={}, accountId={}, jobId={}", 
+                    user.getUsername(), request.getAccountId(), job.getJobId());
+                return ResponseEntity.ok(result);
+            } catch (TimeoutException e) {
+                // 대기 시간 초과 시 작업 ID를 돌려주고 /audit/jobs/{jobId} 로 조회하도록 안내
+                log.info("인프라 점검 대기 시간 초과, 비동기 조회 전환: jobId={}", job.getJobId());
+                return ResponseEntity.accepted().body(
+                    AuditJobResponse.from(job, auditSchedulerService.getQueuePosition(job.getJobId())));
+            }
+        } catch (AuditQueueFullException e) {
+            throw e;
+        } catch (ExecutionException e) {
+            return toAuditErrorResponse(e.getCause() != null ? e.getCause() : e);
         } catch (Exception e) {
-            log.error("인프라 점검 시작 실패", e);
-            
-            // 사용자 친화적인 에러 메시지로 변환
-            String userFriendlyMessage = convertToUserFriendlyMessage(e.getMessage());
-            return ResponseEntity.badRequest().body(userFriendlyMessage);
+            return toAuditErrorResponse(e);
+        }
+    }
+    
+    @Operation(summary = "인프라 보안 점검 작업 등록", description = "점검 작업을 대기열에 등록하고 작업 ID와 대기 순번을 즉시 반환")
+    @PostMapping("/audit/jobs")
+    public ResponseEntity<AuditJobResponse> submitInfraAuditJob(@RequestBody InfraAuditRequest request, Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        
+        String expectedUuid = "clouddoctor-" + user.getExternalId();
+        if (!expectedUuid.equals(request.getExternalId())) {
+            log.warn("계정 불일치: expected={}, provided={}", expectedUuid, request.getExternalId());
+            throw new RuntimeException("External ID가 일치하지 않습니다");
         }
+        
+        AuditJob job = auditSchedulerService.submit(user, request.getAccountId(),
+            () -> infraAuditService.runAudit(user, request));
+        return ResponseEntity.accepted().body(
+            AuditJobResponse.from(job, auditSchedulerService.getQueuePosition(job.getJobId())));
+    }
+    
+    @Operation(summary = "다중 계정 인프라 점검", description = "여러 AWS 계정을 하나의 작업으로 점검 (계정별 진행 상태는 /audit/jobs/{jobId} 로 조회)")
+    @PostMapping("/audit/batch")
+    public ResponseEntity<AuditJobResponse> submitBatchInfraAudit(@RequestBody InfraAuditBatchRequest request, Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        
+        String expectedUuid = "clouddoctor-" + user.getExternalId();
+        if (!expectedUuid.equals(request.getExternalId())) {
+            log.warn("계정 불일치: expected={}, provided={}", expectedUuid, request.getExternalId());
+            throw new RuntimeException("External ID가 일치하지 않습니다");
+        }
+        
+        AuditJob job = batchAuditService.submitBatch(user, request);
+        return ResponseEntity.accepted().body(
+            AuditJobResponse.from(job, auditSchedulerService.getQueuePosition(job.getJobId())));
+    }
+    
+    @Operation(summary = "인프라 보안 점검 작업 조회", description = "점검 작업 상태, 대기 순번, 완료 시 점검 결과 조회")
+    @GetMapping("/audit/jobs/{jobId}")
+    public ResponseEntity<AuditJobResponse> getInfraAuditJob(@PathVariable String jobId, Authentication authentication) {
+        AuditJob job = auditSchedulerService.getJob(jobId, authentication.getName());
+        return ResponseEntity.ok(AuditJobResponse.from(job, auditSchedulerService.getQueuePosition(jobId)));
     }
     
     @Operation(summary = "비밀번호 변경", description = "현재 비밀번호 확인 후 새 비밀번호로 변경")
@@ -142,15 +193,7 @@ public class UserController {
             User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
             
-            UserChecklistResult result = new UserChecklistResult();
-            result.setUser(user);
-            result.setResultName(request.getResultName());
-            result.setNotes(objectMapper.writeValueAsString(request.getAnswers()));
-            result.setIsCompleted(true);
-            result.setCompletionDate(LocalDateTime.now());
-            
-            UserChecklistResult saved = checklistResultRepository.save(result);
-            log.info("체크리스트 저장 완료: user={}, name={}", user.getUsername(), request.getResultName());
+            UserChecklistResult saved = userChecklistService.saveResult(user, request);
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
             log.error("체크리스트 저장 실패", e);
@@ -158,13 +201,16 @@ public class UserController {
         }
     }
     
-    @Operation(summary = "내 체크리스트 목록 조회", description = "로그인한 사용자의 저장된 체크리스트 목록")
+    @Operation(summary = "내 체크리스트 목록 조회", description = "로그인한 사용자의 저장된 체크리스트 요약 목록 (페이지 단위, 답변은 상세 조회에서 제공)")
     @GetMapping("/checklists")
-    public ResponseEntity<List<UserChecklistResult>> getMyChecklists(Authentication authentication) {
+    public ResponseEntity<Page<ChecklistResultSummary>> getMyChecklists(@RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "20") int size,
+                                                                         Authentication authentication) {
         User user = userRepository.findByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        List<UserChecklistResult> results = checklistResultRepository.findByUserId(user.getId());
+        Page<ChecklistResultSummary> results = checklistResultRepository.findSummariesByUserId(user.getId(),
+            PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100), Sort.by(Sort.Direction.DESC, "id")));
         return ResponseEntity.ok(results);
     }
     
@@ -174,14 +220,16 @@ public class UserController {
         User user = userRepository.findByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        UserChecklistResult result = checklistResultRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("체크리스트를 찾을 수 없습니다"));
-        
-        if (!result.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("권한이 없습니다");
-        }
+        return ResponseEntity.ok(userChecklistService.getResult(user, id));
+    }
+    
+    @Operation(summary = "체크리스트 점수 조회", description = "저장 시 계산된 전체 / 서비스별 / 중요도별 점수 (답변 전체를 내려받지 않음)")
+    @GetMapping("/checklist/{id}/scores")
+    public ResponseEntity<ChecklistScoreResponse> getChecklistScores(@PathVariable Long id, Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(userChecklistService.getScores(user, id));
     }
     
     @Operation(summary = "체크리스트 수정", description = "저장된 체크리스트 수정")
@@ -193,18 +241,9 @@ public class UserController {
             User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
             
-            UserChecklistResult result = checklistResultRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("체크리스트를 찾을 수 없습니다"));
-            
-            if (!result.getUser().getId().equals(user.getId())) {
-                throw new RuntimeException("권한이 없습니다");
-            }
-            
-            result.setResultName(request.getResultName());
-            result.setNotes(objectMapper.writeValueAsString(request.getAnswers()));
-            
-            UserChecklistResult updated = checklistResultRepository.save(result);
-            log.info("체크리스트 수정 완료: id={}", id);
+            UserChecklistResult updated = userChecklistService.updateResult(user, id, request);
+            // 전체 수정 이전의 자동 저장 변경분이 나중에 새 답변을 덮어쓰지 않도록 폐기
+            checklistDraftService.discard(user.getId(), id);
             return ResponseEntity.ok(updated);
         } catch (Exception e) {
             log.error("체크리스트 수정 실패", e);
@@ -212,44 +251,60 @@ public class UserController {
         }
     }
     
-    /**
-     * AWS 에러를 사용자 친화적인 메시지로 변환
-     */
-    private String convertToUserFriendlyMessage(String errorMessage) {
-        if (errorMessage == null) {
-            return "점검 시작에 실패했습니다.";
-        }
+    @Operation(summary = "체크리스트 부분 수정", description = "변경된 항목만 저장 (version 이 최신이 아니면 409)")
+    @PatchMapping("/checklist/{id}")
+    public ResponseEntity<ChecklistPatchResponse> patchChecklist(@PathVariable Long id,
+                                                                 @RequestBody ChecklistPatchRequest request,
+                                                                 Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        // AssumeRole 권한 부족
-        if (errorMessage.contains("is not authorized to perform: sts:AssumeRole")) {
-            return "🚫 AWS 역할 접근 권한이 없습니다.\n" +
-                   "• AWS 계정 ID가 올바른지 확인해주세요\n" +
-                   "• CloudDoctorAuditRole이 생성되었는지 확인해주세요\n" +
-                   "• Trust Policy에 올바른 External ID가 설정되었는지 확인해주세요";
-        }
+        return ResponseEntity.ok(userChecklistService.patchResult(user, id, request));
+    }
+    
+    @Operation(summary = "체크리스트 임시 저장", description = "자동 저장용: 변경된 항목을 Redis 에 모아 두고 DB 에는 나중에 일괄 반영")
+    @PutMapping("/checklist/{id}/draft")
+    public ResponseEntity<ChecklistDraftResponse> saveChecklistDraft(@PathVariable Long id,
+                                                                     @RequestBody ChecklistDraftRequest request,
+                                                                     Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        // 역할을 찾을 수 없음
-        if (errorMessage.contains("NoSuchEntity") || errorMessage.contains("does not exist")) {
-            return "🔍 CloudDoctorAuditRole을 찾을 수 없습니다.\n" +
-                   "• AWS 계정 ID가 올바른지 확인해주세요\n" +
-                   "• '점검계정 생성 가이드'를 참고하여 Role을 생성해주세요";
-        }
+        return ResponseEntity.ok(checklistDraftService.saveDraft(user.getId(), id, request));
+    }
+    
+    @Operation(summary = "체크리스트 임시 저장 조회", description = "아직 DB 에 반영되지 않은 임시 저장 변경분 조회")
+    @GetMapping("/checklist/{id}/draft")
+    public ResponseEntity<ChecklistDraftResponse> getChecklistDraft(@PathVariable Long id, Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        // External ID 불일치
-        if (errorMessage.contains("ExternalId")) {
-            return "🔑 External ID가 일치하지 않습니다.\n" +
-                   "• '확인&복사' 버튼을 눌러 올바른 UUID를 사용해주세요\n" +
-                   "• AWS Role의 Trust Policy에 동일한 UUID가 설정되었는지 확인해주세요";
-        }
+        return ResponseEntity.ok(checklistDraftService.getDraft(user.getId(), id));
+    }
+    
+    @Operation(summary = "체크리스트 임시 저장 반영", description = "체크리스트 완료 시 임시 저장 변경분을 즉시 DB 에 반영")
+    @PostMapping("/checklist/{id}/draft/flush")
+    public ResponseEntity<Map<String, Integer>> flushChecklistDraft(@PathVariable Long id, Authentication authentication) {
+        User user = userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        // 일반적인 AWS 에러
-        if (errorMessage.contains("AWS") || errorMessage.contains("Amazon")) {
-            return "☁️ AWS 연결 오류가 발생했습니다.\n" +
-                   "• 입력한 정보를 다시 한 번 확인해주세요\n" +
-                   "• 잠시 후 다시 시도해주세요";
+        return ResponseEntity.ok(Map.of("flushedItems", checklistDraftService.flush(user.getId(), id)));
+    }
+    
+    /**
+     * 점검 실패를 사용자 친화적인 응답으로 변환 (실패 원인은 InfraAuditClient 에서 분류)
+     */
+    private ResponseEntity<String> toAuditErrorResponse(Throwable e) {
+        if (e instanceof InfraAuditException auditException) {
+            InfraAuditException.Reason reason = auditException.getReason();
+            log.error("인프라 점검 실패: reason={}, detail={}", reason, auditException.getMessage());
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(reason.getStatus());
+            if (auditException.getRetryAfterSeconds() > 0) {
+                builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(auditException.getRetryAfterSeconds()));
+            }
+            return builder.body(reason.getUserMessage());
         }
-        
-        // 기본 메시지
-        return "점검 시작에 실패했습니다. 입력 정보를 확인하고 다시 시도해주세요.";
+        log.error("인프라 점검 시작 실패", e);
+        return ResponseEntity.badRequest().body(InfraAuditException.Reason.UNKNOWN.getUserMessage());
     }
 }
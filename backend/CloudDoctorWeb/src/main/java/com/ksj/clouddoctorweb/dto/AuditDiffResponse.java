@@ -0,0 +1,39 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점검 실행 간 비교 결과 DTO (페이지 단위)
+ */
+@Data
+public class AuditDiffResponse {
+    
+    public enum DiffType {
+        NEW_FAILURE,    // 이전 실행에서 통과/미존재 → 이번 실행에서 실패
+        RESOLVED,       // 이전 실행에서 실패 → 이번 실행에서 통과/미존재
+        STILL_FAILING,  // 두 실행 모두 실패
+        UNCHANGED       // 두 실행 모두 통과 (또는 통과 상태로 추가/삭제)
+    }
+    
+    private Long baseRunId;
+    private Long targetRunId;
+    private Map<DiffType, Long> counts;
+    private String type;
+    private int page;
+    private int size;
+    private long totalElements;
+    private List<Item> items = new ArrayList<>();
+    
+    @Data
+    public static class Item {
+        private String checkId;
+        private String resourceId;
+        private DiffType type;
+        private String baseStatus;
+        private String targetStatus;
+        private String message;
+    }
+}
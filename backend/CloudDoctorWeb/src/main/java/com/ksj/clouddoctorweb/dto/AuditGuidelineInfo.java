@@ -0,0 +1,36 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ksj.clouddoctorweb.entity.Guideline;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 점검 결과에 첨부되는 가이드라인 요약 (InfraAuditResponse 와 같은 snake_case 형식)
+ */
+@Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AuditGuidelineInfo {
+    private Long guidelineId;
+    private String title;
+    private String importanceLevel;
+    private String solutionText;
+    private List<Long> checklistIds;
+    private List<String> checklistTitles;
+    
+    public static AuditGuidelineInfo from(Guideline guideline, List<Long> checklistIds, List<String> checklistTitles) {
+        AuditGuidelineInfo info = new AuditGuidelineInfo();
+        info.setGuidelineId(guideline.getId());
+        info.setTitle(guideline.getTitle());
+        info.setImportanceLevel(guideline.getImportanceLevel());
+        info.setSolutionText(guideline.getSolutionText());
+        info.setChecklistIds(List.copyOf(checklistIds));
+        info.setChecklistTitles(List.copyOf(checklistTitles));
+        return info;
+    }
+}
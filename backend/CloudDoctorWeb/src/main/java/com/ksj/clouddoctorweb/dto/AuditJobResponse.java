@@ -0,0 +1,45 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
+import com.ksj.clouddoctorweb.service.AuditJob;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 점검 작업 상태 응답 DTO
+ */
+@Data
+public class AuditJobResponse {
+    private String jobId;
+    private String accountId;
+    private String status;
+    private Integer queuePosition;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Object progress;
+    private Object result;
+    private String error;
+    private String errorCode;
+
+    public static AuditJobResponse from(AuditJob job, int queuePosition) {
+        AuditJobResponse response = new AuditJobResponse();
+        response.setJobId(job.getJobId());
+        response.setAccountId(job.getAccountId());
+        response.setStatus(job.getStatus().name());
+        response.setQueuePosition(queuePosition > 0 ? queuePosition : null);
+        response.setSubmittedAt(job.getSubmittedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setCompletedAt(job.getCompletedAt());
+        response.setProgress(job.getProgress());
+        response.setResult(job.getResult());
+        if (job.getFailure() instanceof InfraAuditException auditException) {
+            response.setError(auditException.getReason().getUserMessage());
+            response.setErrorCode(auditException.getReason().name());
+        } else if (job.getFailure() != null) {
+            response.setError(InfraAuditException.Reason.UNKNOWN.getUserMessage());
+            response.setErrorCode(InfraAuditException.Reason.UNKNOWN.name());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.ksj.clouddoctorweb.entity.AuditRun;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 점검 실행 이력 응답 DTO
+ */
+@Data
+public class AuditRunResponse {
+    private Long id;
+    private String accountId;
+    private String auditId;
+    private String status;
+    private Integer totalCount;
+    private Integer passCount;
+    private Integer failCount;
+    private Integer warnCount;
+    private Integer errorCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime createdAt;
+    
+    public static AuditRunResponse from(AuditRun run) {
+        AuditRunResponse response = new AuditRunResponse();
+        response.setId(run.getId());
+        response.setAccountId(run.getAccountId());
+        response.setAuditId(run.getAuditId());
+        response.setStatus(run.getStatus());
+        response.setTotalCount(run.getTotalCount());
+        response.setPassCount(run.getPassCount());
+        response.setFailCount(run.getFailCount());
+        response.setWarnCount(run.getWarnCount());
+        response.setErrorCount(run.getErrorCount());
+        response.setStartedAt(run.getStartedAt());
+        response.setCompletedAt(run.getCompletedAt());
+        response.setCreatedAt(run.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+
+/**
+ * 정기 점검 등록/수정 요청 DTO
+ */
+@Data
+public class AuditScheduleRequest {
+    private String accountId;
+    private String roleName = "CloudDoctorAuditRole";
+    private String frequency; // DAILY, WEEKLY
+    private Integer dayOfWeek; // WEEKLY 전용 (1=월 ~ 7=일)
+    private Integer hourOfDay;
+    private Boolean enabled = true;
+}
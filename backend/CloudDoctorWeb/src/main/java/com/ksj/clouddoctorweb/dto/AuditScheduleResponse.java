@@ -0,0 +1,41 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.ksj.clouddoctorweb.entity.AuditSchedule;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 정기 점검 응답 DTO
+ */
+@Data
+public class AuditScheduleResponse {
+    private Long id;
+    private String accountId;
+    private String roleName;
+    private String frequency;
+    private Integer dayOfWeek;
+    private Integer hourOfDay;
+    private Boolean enabled;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime lastRunAt;
+    private String lastJobId;
+    private String lastStatus;
+    private LocalDateTime createdAt;
+    
+    public static AuditScheduleResponse from(AuditSchedule schedule) {
+        AuditScheduleResponse response = new AuditScheduleResponse();
+        response.setId(schedule.getId());
+        response.setAccountId(schedule.getAccountId());
+        response.setRoleName(schedule.getRoleName());
+        response.setFrequency(schedule.getFrequency().name());
+        response.setDayOfWeek(schedule.getDayOfWeek());
+        response.setHourOfDay(schedule.getHourOfDay());
+        response.setEnabled(schedule.getEnabled());
+        response.setNextRunAt(schedule.getNextRunAt());
+        response.setLastRunAt(schedule.getLastRunAt());
+        response.setLastJobId(schedule.getLastJobId());
+        response.setLastStatus(schedule.getLastStatus());
+        response.setCreatedAt(schedule.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.time.LocalDate;
+
+/**
+ * 점검 추이 데이터 포인트 (일자 + 그룹 키별 집계)
+ */
+@Data
+public class AuditTrendPoint {
+    private LocalDate day;
+    private String key; // groupBy 값 (서비스명, 점검 항목 ID 또는 계정 ID)
+    private Integer failingChecks; // FAIL/WARN 결과가 있는 점검 항목 수
+    private Integer passCount;
+    private Integer failCount;
+    private Integer warnCount;
+    private Integer errorCount;
+}
@@ -0,0 +1,43 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 일괄 생성 결과 (요청 항목별 처리 결과, 요청 순서)
+ */
+@Data
+public class BulkUserProvisionReport {
+    
+    public enum Status {
+        CREATED,    // 새로 생성
+        DUPLICATE,  // 아이디 또는 이메일이 이미 사용 중 (요청 안에서 중복된 경우 포함)
+        ERROR       // 검증 실패로 건너뜀
+    }
+    
+    private int total;
+    private Map<Status, Integer> counts = new EnumMap<>(Status.class);
+    private List<Row> rows = new ArrayList<>();
+    
+    public void add(Row row) {
+        total++;
+        counts.merge(row.getStatus(), 1, Integer::sum);
+        rows.add(row);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private int index;
+        private String username;
+        private Status status;
+        private Long id;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ksj.clouddoctorweb.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 사용자 일괄 생성 요청 DTO
+ */
+@Data
+@Schema(description = "사용자 일괄 생성 요청")
+public class BulkUserProvisionRequest {
+    
+    @Schema(description = "회사명 (항목에 회사명이 없으면 이 값 사용)", example = "ABC회사")
+    private String company;
+    
+    @Schema(description = "생성할 사용자 목록 (회원가입 요청과 같은 형식)", required = true)
+    private List<RegisterRequest> users;
+}
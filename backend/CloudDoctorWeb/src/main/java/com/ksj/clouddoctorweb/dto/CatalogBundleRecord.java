@@ -0,0 +1,47 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 가이드라인 카탈로그 번들의 한 레코드 (JSON 배열 또는 NDJSON 한 줄)
+ * type 별로 사용하는 필드가 다르며, 서로의 참조는 DB ID 대신 이름/ref 로 표현
+ * - service: provider, name, display_name, service_real_case_count, is_active
+ * - guideline: ref, provider, service, title, importance_level, why_dangerous, what_happens, ..., links
+ * - checklist: guideline(같은 번들 안 앞선 guideline 레코드의 ref), title, is_active
+ */
+@Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CatalogBundleRecord {
+    
+    public enum Type {
+        SERVICE, GUIDELINE, CHECKLIST
+    }
+    
+    private Type type;
+    private String ref;
+    private String provider;
+    private String service;
+    private String guideline;
+    
+    private String name;
+    private String displayName;
+    private Integer serviceRealCaseCount;
+    private Boolean isActive;
+    
+    private String title;
+    private String importanceLevel;
+    private String whyDangerous;
+    private String whatHappens;
+    private String checkStandard;
+    private String solutionText;
+    private String sideEffects;
+    private String note;
+    private List<GuidelineLinkRequest> links;
+}
@@ -0,0 +1,44 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 번들 가져오기 결과 (레코드별 처리 결과)
+ */
+@Data
+public class CatalogImportReport {
+    
+    public enum Status {
+        CREATED,    // 새로 생성
+        EXISTS,     // 같은 이름의 항목이 이미 있어 기존 항목 사용
+        ERROR       // 검증 실패로 건너뜀
+    }
+    
+    private int total;
+    private Map<Status, Integer> counts = new EnumMap<>(Status.class);
+    private List<Row> rows = new ArrayList<>();
+    
+    public void add(Row row) {
+        total++;
+        counts.merge(row.getStatus(), 1, Integer::sum);
+        rows.add(row);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private int index;
+        private CatalogBundleRecord.Type type;
+        private String key;
+        private Status status;
+        private Long id;
+        private String message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 체크리스트 임시 저장 요청 DTO (자동 저장 시 변경된 항목만 전송)
+ */
+@Data
+public class ChecklistDraftRequest {
+    private Map<String, Boolean> changes; // 체크리스트 ID → 체크 여부
+    private List<Long> removed; // 답변을 지울 체크리스트 ID
+}
@@ -0,0 +1,17 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 체크리스트 임시 저장 상태 응답 DTO (아직 DB 에 반영되지 않은 변경분)
+ */
+@Data
+public class ChecklistDraftResponse {
+    private Long resultId;
+    private Map<String, Boolean> changes;
+    private List<Long> removed;
+    private Long lastEditedAt; // epoch millis, 임시 저장분이 없으면 null
+    private Long version; // 임시 저장분의 기준 결과지 버전 (반영 시 이 버전일 때만 적용)
+}
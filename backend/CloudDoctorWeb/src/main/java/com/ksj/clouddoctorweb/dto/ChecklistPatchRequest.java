@@ -0,0 +1,16 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 체크리스트 결과 부분 수정 요청 DTO (변경된 항목만 전송)
+ */
+@Data
+public class ChecklistPatchRequest {
+    private Long version; // 클라이언트가 마지막으로 받은 버전
+    private String resultName; // null 이면 변경하지 않음
+    private Map<String, Boolean> changes; // 체크리스트 ID → 체크 여부
+    private List<Long> removed; // 답변을 지울 체크리스트 ID
+}
@@ -0,0 +1,14 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+
+/**
+ * 체크리스트 결과 부분 수정 응답 DTO
+ */
+@Data
+public class ChecklistPatchResponse {
+    private Long id;
+    private Long version;
+    private Integer changedItems;
+    private Integer removedItems;
+}
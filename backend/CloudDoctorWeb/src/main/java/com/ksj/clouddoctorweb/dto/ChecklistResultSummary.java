@@ -0,0 +1,20 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 점검 결과지 목록용 요약 DTO (답변은 상세 조회에서만 내려줌)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChecklistResultSummary {
+    private Long id;
+    private String resultName;
+    private LocalDateTime completionDate;
+    private BigDecimal score;
+}
@@ -0,0 +1,28 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 점검 결과지 점수 응답 DTO (전체 / 서비스별 / 중요도별)
+ */
+@Data
+public class ChecklistScoreResponse {
+    private Long resultId;
+    private Integer totalCount;
+    private Integer checkedCount;
+    private BigDecimal score;
+    private List<Score> byService = new ArrayList<>();
+    private List<Score> byImportance = new ArrayList<>();
+    
+    @Data
+    public static class Score {
+        private String key; // 서비스별: service_lists.id, 중요도별: 중요도
+        private String label; // 표시 이름 (서비스 표시 이름 / 중요도)
+        private Integer totalCount;
+        private Integer checkedCount;
+        private BigDecimal score;
+    }
+}
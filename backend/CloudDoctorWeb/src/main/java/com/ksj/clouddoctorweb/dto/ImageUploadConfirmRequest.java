@@ -0,0 +1,11 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+
+/**
+ * 이미지 직접 업로드 완료 확인 요청 (발급받은 key)
+ */
+@Data
+public class ImageUploadConfirmRequest {
+    private String key;
+}
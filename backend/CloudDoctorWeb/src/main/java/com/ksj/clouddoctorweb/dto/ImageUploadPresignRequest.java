@@ -0,0 +1,13 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+
+/**
+ * 이미지 직접 업로드 URL 발급 요청
+ */
+@Data
+public class ImageUploadPresignRequest {
+    private String fileName;
+    private String contentType;
+    private Long contentLength;
+}
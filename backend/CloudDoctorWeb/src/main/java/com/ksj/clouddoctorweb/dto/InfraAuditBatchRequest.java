@@ -0,0 +1,16 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 다중 계정 인프라 점검 요청 (같은 역할 이름/External ID 로 여러 계정을 한 번에 점검)
+ */
+@Data
+public class InfraAuditBatchRequest {
+    private List<String> accountIds;
+    private String roleName = "CloudDoctorAuditRole";
+    private String externalId;
+    private List<String> checks;
+    private Boolean useCache = true;
+}
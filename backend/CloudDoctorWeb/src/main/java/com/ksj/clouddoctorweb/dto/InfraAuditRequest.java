@@ -9,4 +9,8 @@ public class InfraAuditRequest {
     private String roleName = "CloudDoctorAuditRole";
     private String externalId;
     private List<String> checks;
-}
\ No newline at end of file
+    // 캐시 사용 여부 (false 면 요청한 모든 항목을 재점검)
+    private Boolean useCache = true;
+    // 캐시와 무관하게 재점검할 항목 (예: 방금 조치한 항목)
+    private List<String> refreshChecks;
+}
@@ -0,0 +1,48 @@
+package com.ksj.clouddoctorweb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * infraaudit 점검 결과 DTO (Python AuditResponse 와 동일한 snake_case 형식)
+ */
+@Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InfraAuditResponse {
+    private String auditId;
+    private String accountId;
+    private String status;
+    private String startedAt;
+    private String completedAt;
+    private List<CheckResult> results;
+    private Map<String, Integer> summary;
+    private Map<String, Long> guidelineIds;
+    private String error;
+    // 캐시에서 가져온 점검 항목 (재실행하지 않은 항목)
+    private List<String> cachedChecks;
+    // 저장된 점검 실행 ID (실행 간 비교에 사용)
+    private Long runId;
+    // check_id 별 가이드라인 요약 (제목, 중요도, 조치 방법)
+    private Map<String, AuditGuidelineInfo> guidelines;
+
+    @Data
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CheckResult {
+        private String checkId;
+        private String status;
+        private String resourceId;
+        private String message;
+        private Map<String, Object> details;
+        private Long guidelineId;
+        private String importanceLevel;
+    }
+}
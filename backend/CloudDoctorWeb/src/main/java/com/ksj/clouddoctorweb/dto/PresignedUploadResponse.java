@@ -0,0 +1,20 @@
+package com.ksj.clouddoctorweb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+/**
+ * 브라우저 직접 업로드용 Presigned PUT URL
+ * 업로드 시 contentType 과 같은 Content-Type 헤더로 PUT 해야 서명이 일치함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponse {
+    private String key;
+    private String uploadUrl;
+    private String contentType;
+    private Instant expiresAt;
+}
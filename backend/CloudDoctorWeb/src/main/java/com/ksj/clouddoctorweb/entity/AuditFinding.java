@@ -0,0 +1,42 @@
+package com.ksj.clouddoctorweb.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인프라 점검 개별 결과 엔티티
+ * (check_id, resource_id) 가 실행 간 비교 키
+ */
+@Entity
+@Table(name = "audit_findings")
+@Data
+@Getter
+@Setter
+public class AuditFinding {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "audit_run_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private AuditRun auditRun;
+    
+    @Column(name = "check_id", nullable = false, length = 100)
+    private String checkId;
+    
+    @Column(name = "resource_id", columnDefinition = "TEXT", nullable = false)
+    private String resourceId;
+    
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    @Column(columnDefinition = "TEXT")
+    private String message;
+    
+    @Column(columnDefinition = "TEXT")
+    private String details;
+}
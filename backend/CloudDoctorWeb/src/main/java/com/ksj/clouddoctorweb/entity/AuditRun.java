@@ -0,0 +1,65 @@
+package com.ksj.clouddoctorweb.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+/**
+ * 인프라 점검 실행 엔티티
+ * 점검 1회의 요약 정보 (개별 결과는 AuditFinding)
+ */
+@Entity
+@Table(name = "audit_runs")
+@Data
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class AuditRun {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private User user;
+    
+    @Column(name = "account_id", nullable = false, length = 20)
+    private String accountId;
+    
+    @Column(name = "audit_id", length = 100)
+    private String auditId;
+    
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount = 0;
+    
+    @Column(name = "pass_count", nullable = false)
+    private Integer passCount = 0;
+    
+    @Column(name = "fail_count", nullable = false)
+    private Integer failCount = 0;
+    
+    @Column(name = "warn_count", nullable = false)
+    private Integer warnCount = 0;
+    
+    @Column(name = "error_count", nullable = false)
+    private Integer errorCount = 0;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
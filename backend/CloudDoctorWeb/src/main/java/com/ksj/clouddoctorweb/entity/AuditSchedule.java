@@ -0,0 +1,75 @@
+package com.ksj.clouddoctorweb.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+/**
+ * 정기 인프라 점검 엔티티
+ * 사용자가 등록한 계정별 매일/매주 점검 일정
+ */
+@Entity
+@Table(name = "audit_schedules")
+@Data
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class AuditSchedule {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private User user;
+    
+    @Column(name = "account_id", nullable = false, length = 20)
+    private String accountId;
+    
+    @Column(name = "role_name", nullable = false, length = 100)
+    private String roleName;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Frequency frequency;
+    
+    @Column(name = "day_of_week")
+    private Integer dayOfWeek;
+    
+    @Column(name = "hour_of_day", nullable = false)
+    private Integer hourOfDay;
+    
+    @Column(nullable = false)
+    private Boolean enabled = true;
+    
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+    
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+    
+    @Column(name = "last_job_id", length = 36)
+    private String lastJobId;
+    
+    @Column(name = "last_status", length = 20)
+    private String lastStatus;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public enum Frequency {
+        DAILY, WEEKLY
+    }
+}
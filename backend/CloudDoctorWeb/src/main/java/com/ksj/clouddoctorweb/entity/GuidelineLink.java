@@ -26,6 +26,7 @@ public class GuidelineLink {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guideline_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private Guideline guideline;
     
     @Column(columnDefinition = "TEXT", nullable = false)
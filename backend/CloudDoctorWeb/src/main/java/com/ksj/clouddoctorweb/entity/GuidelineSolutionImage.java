@@ -25,6 +25,7 @@ public class GuidelineSolutionImage {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guideline_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private Guideline guideline;
     
     @Column(name = "image_url", columnDefinition = "TEXT", nullable = false)
@@ -33,6 +34,17 @@ public class GuidelineSolutionImage {
     @Column(name = "display_order")
     private Integer displayOrder = 0;
     
+    // 원본 SHA-256 (파생본 객체 키에 사용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    // 파생본 URL (생성 전에는 null, 클라이언트는 imageUrl 로 대체)
+    @Column(name = "thumbnail_url", columnDefinition = "TEXT")
+    private String thumbnailUrl;
+    
+    @Column(name = "medium_url", columnDefinition = "TEXT")
+    private String mediumUrl;
+    
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -26,6 +26,7 @@ public class RefreshToken {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private User user;
     
     @Column(columnDefinition = "TEXT", nullable = false)
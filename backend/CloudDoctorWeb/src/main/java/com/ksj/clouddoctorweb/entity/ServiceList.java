@@ -27,6 +27,7 @@ public class ServiceList {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cloud_provider_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private CloudProvider cloudProvider;
     
     @Column(nullable = false, length = 100)
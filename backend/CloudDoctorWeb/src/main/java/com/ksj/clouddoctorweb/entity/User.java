@@ -49,9 +49,13 @@ public class User {
     @Column(name = "is_verified")
     private Boolean isVerified = false;
     
-    @Column(name = "last_login")
+    // 로그인/활동 시각은 UserActivityService 가 JDBC 배치로만 기록 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "last_login", insertable = false, updatable = false)
     private LocalDateTime lastLogin;
     
+    @Column(name = "last_activity", insertable = false, updatable = false)
+    private LocalDateTime lastActivity;
+    
     @Column(name = "external_id", unique = true, nullable = false, length = 100)
     private String externalId;
     
@@ -27,10 +27,12 @@ public class UserChecklistItemResult {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_checklist_result_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private UserChecklistResult userChecklistResult;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "checklist_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private Checklist checklist;
     
     @Column(name = "is_checked")
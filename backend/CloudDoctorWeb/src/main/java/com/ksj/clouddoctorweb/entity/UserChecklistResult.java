@@ -7,8 +7,9 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 
 /**
  * 사용자 체크리스트 결과 엔티티
@@ -28,6 +29,7 @@ public class UserChecklistResult {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private User user;
     
     @Column(name = "result_name", nullable = false, length = 200)
@@ -42,6 +44,20 @@ public class UserChecklistResult {
     @Column(columnDefinition = "TEXT")
     private String notes;
     
+    // 점수는 답변 저장 시 SQL 로 계산하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(name = "total_count", insertable = false, updatable = false)
+    private Integer totalCount;
+    
+    @Column(name = "checked_count", insertable = false, updatable = false)
+    private Integer checkedCount;
+    
+    @Column(name = "score", insertable = false, updatable = false)
+    private BigDecimal score;
+    
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+    
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -49,4 +65,8 @@ public class UserChecklistResult {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    // 체크리스트 ID → 체크 여부 (user_checklist_item_results 에서 조회하여 응답에만 사용)
+    @Transient
+    private Map<Long, Boolean> answers;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ksj.clouddoctorweb.exception;
+
+import lombok.Getter;
+
+/**
+ * 점검 대기열 포화 예외 (429 + Retry-After)
+ */
+@Getter
+public class AuditQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuditQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
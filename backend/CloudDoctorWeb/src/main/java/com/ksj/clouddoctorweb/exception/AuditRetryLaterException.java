@@ -0,0 +1,18 @@
+package com.ksj.clouddoctorweb.exception;
+
+import lombok.Getter;
+
+/**
+ * 묶음 작업의 하위 작업을 잠시 후 다시 실행하도록 요청하는 예외
+ * 스케줄러는 실행 스레드를 붙잡지 않고 delayMillis 이후 하위 작업을 다시 넣음
+ */
+@Getter
+public class AuditRetryLaterException extends RuntimeException {
+
+    private final long delayMillis;
+
+    public AuditRetryLaterException(String message, long delayMillis, Throwable cause) {
+        super(message, cause);
+        this.delayMillis = delayMillis;
+    }
+}
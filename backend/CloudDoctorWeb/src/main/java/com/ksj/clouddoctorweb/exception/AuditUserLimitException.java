@@ -0,0 +1,12 @@
+package com.ksj.clouddoctorweb.exception;
+
+/**
+ * 사용자별 점검 작업 한도 초과 예외 (429 + Retry-After)
+ * 전역 대기열 포화와 달리 해당 사용자만 막히므로 정기 점검 디스패처는 이 일정만 미루고 다음 일정을 계속 등록
+ */
+public class AuditUserLimitException extends AuditQueueFullException {
+
+    public AuditUserLimitException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -6,6 +6,7 @@ import com.ksj.clouddoctorweb.controller.AuthController;
 import com.ksj.clouddoctorweb.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -86,6 +87,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
     }
     
+    /**
+     * 점검 대기열 포화 (429)
+     */
+    @ExceptionHandler(AuditQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleAuditQueueFullException(
+            AuditQueueFullException ex, HttpServletRequest request) {
+        log.warn("점검 대기열 포화: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+    
+    /**
+     * 오래된 버전 기준의 수정 (409)
+     */
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<ErrorResponse> handleStaleVersionException(
+            StaleVersionException ex, HttpServletRequest request) {
+        log.warn("버전 충돌: {} (current={})", ex.getMessage(), ex.getCurrentVersion());
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .header(HttpHeaders.ETAG, "\"" + ex.getCurrentVersion() + "\"")
+            .body(error);
+    }
+    
     /**
      * 일반 런타임 예외 (400)
      */
@@ -0,0 +1,82 @@
+package com.ksj.clouddoctorweb.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * infraaudit 호출 실패 예외
+ * 실패 원인을 Reason 으로 분류하여 사용자 메시지/응답 코드/서킷 브레이커 반영 여부를 결정
+ */
+@Getter
+public class InfraAuditException extends RuntimeException {
+
+    public enum Reason {
+        ROLE_ACCESS_DENIED(HttpStatus.BAD_REQUEST, false,
+            "🚫 AWS 역할 접근 권한이 없습니다.\n" +
+            "• AWS 계정 ID가 올바른지 확인해주세요\n" +
+            "• CloudDoctorAuditRole이 생성되었는지 확인해주세요\n" +
+            "• Trust Policy에 올바른 External ID가 설정되었는지 확인해주세요"),
+        ROLE_NOT_FOUND(HttpStatus.BAD_REQUEST, false,
+            "🔍 CloudDoctorAuditRole을 찾을 수 없습니다.\n" +
+            "• AWS 계정 ID가 올바른지 확인해주세요\n" +
+            "• '점검계정 생성 가이드'를 참고하여 Role을 생성해주세요"),
+        EXTERNAL_ID_MISMATCH(HttpStatus.BAD_REQUEST, false,
+            "🔑 External ID가 일치하지 않습니다.\n" +
+            "• '확인&복사' 버튼을 눌러 올바른 UUID를 사용해주세요\n" +
+            "• AWS Role의 Trust Policy에 동일한 UUID가 설정되었는지 확인해주세요"),
+        AWS_ERROR(HttpStatus.BAD_REQUEST, false,
+            "☁️ AWS 연결 오류가 발생했습니다.\n" +
+            "• 입력한 정보를 다시 한 번 확인해주세요\n" +
+            "• 잠시 후 다시 시도해주세요"),
+        TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, true,
+            "⏱️ 점검 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+        SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, true,
+            "🛠️ 점검 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+        CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, false,
+            "🛠️ 점검 서버가 일시적으로 응답하지 않아 요청을 중단했습니다. 잠시 후 다시 시도해주세요."),
+        BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, false,
+            "⏳ 점검 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+        INVALID_REQUEST(HttpStatus.BAD_REQUEST, false,
+            "점검 요청 형식이 올바르지 않습니다. 입력 정보를 확인하고 다시 시도해주세요."),
+        UNKNOWN(HttpStatus.BAD_REQUEST, true,
+            "점검 시작에 실패했습니다. 입력 정보를 확인하고 다시 시도해주세요.");
+
+        private final HttpStatus status;
+        private final boolean serviceFailure;
+        private final String userMessage;
+
+        Reason(HttpStatus status, boolean serviceFailure, String userMessage) {
+            this.status = status;
+            this.serviceFailure = serviceFailure;
+            this.userMessage = userMessage;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * infraaudit 자체 장애로 인한 실패인지 (서킷 브레이커 실패 집계 대상)
+         */
+        public boolean isServiceFailure() {
+            return serviceFailure;
+        }
+
+        public String getUserMessage() {
+            return userMessage;
+        }
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public InfraAuditException(Reason reason, String detail) {
+        this(reason, detail, 0, null);
+    }
+
+    public InfraAuditException(Reason reason, String detail, long retryAfterSeconds, Throwable cause) {
+        super(detail != null ? detail : reason.name(), cause);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
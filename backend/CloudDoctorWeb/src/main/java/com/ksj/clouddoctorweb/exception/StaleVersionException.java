@@ -0,0 +1,17 @@
+package com.ksj.clouddoctorweb.exception;
+
+import lombok.Getter;
+
+/**
+ * 오래된 버전 기준의 수정 요청 예외 (409)
+ */
+@Getter
+public class StaleVersionException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public StaleVersionException(String message, long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
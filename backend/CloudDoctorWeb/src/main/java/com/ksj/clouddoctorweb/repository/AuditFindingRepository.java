@@ -0,0 +1,35 @@
+package com.ksj.clouddoctorweb.repository;
+
+import com.ksj.clouddoctorweb.entity.AuditFinding;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface AuditFindingRepository extends JpaRepository<AuditFinding, Long> {
+    
+    /**
+     * 점검 실행의 결과를 (check_id, resource_id) 바이트 순서로 스트리밍 조회 (트랜잭션 내에서 사용)
+     * Java String.compareTo 와 같은 순서가 되도록 COLLATE "C" 로 정렬
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT f.check_id AS checkId, f.resource_id AS resourceId, f.status AS status, f.message AS message " +
+                   "FROM audit_findings f WHERE f.audit_run_id = :auditRunId " +
+                   "ORDER BY f.check_id COLLATE \"C\", f.resource_id COLLATE \"C\"",
+           nativeQuery = true)
+    Stream<FindingRow> streamOrderedByKey(Long auditRunId);
+    
+    interface FindingRow {
+        String getCheckId();
+        String getResourceId();
+        String getStatus();
+        String getMessage();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ksj.clouddoctorweb.repository;
+
+import com.ksj.clouddoctorweb.entity.AuditRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface AuditRunRepository extends JpaRepository<AuditRun, Long> {
+    Page<AuditRun> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    Page<AuditRun> findByUserIdAndAccountIdOrderByCreatedAtDesc(Long userId, String accountId, Pageable pageable);
+    Optional<AuditRun> findByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,24 @@
+package com.ksj.clouddoctorweb.repository;
+
+import com.ksj.clouddoctorweb.entity.AuditSchedule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuditScheduleRepository extends JpaRepository<AuditSchedule, Long> {
+    List<AuditSchedule> findByUserIdOrderByIdAsc(Long userId);
+    Optional<AuditSchedule> findByIdAndUserId(Long id, Long userId);
+    
+    @Query("SELECT s FROM AuditSchedule s JOIN FETCH s.user WHERE s.enabled = true AND s.nextRunAt <= :now ORDER BY s.nextRunAt ASC")
+    List<AuditSchedule> findDue(LocalDateTime now, Pageable pageable);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditSchedule s SET s.lastStatus = :status WHERE s.id = :id AND s.lastJobId = :jobId")
+    int updateLastStatus(Long id, String jobId, String status);
+}
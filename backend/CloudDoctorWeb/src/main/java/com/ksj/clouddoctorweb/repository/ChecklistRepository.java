@@ -1,9 +1,15 @@
 package com.ksj.clouddoctorweb.repository;
 
 import com.ksj.clouddoctorweb.entity.Checklist;
+import com.ksj.clouddoctorweb.entity.CloudProvider;
+import com.ksj.clouddoctorweb.entity.ServiceList;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChecklistRepository extends JpaRepository<Checklist, Long> {
     @Query("SELECT c FROM Checklist c WHERE c.guideline.id = :guidelineId AND c.isActive = true ORDER BY c.id ASC")
@@ -12,11 +18,28 @@ public interface ChecklistRepository extends JpaRepository<Checklist, Long> {
     @Query("SELECT c FROM Checklist c WHERE c.guideline.id = :guidelineId ORDER BY c.id ASC")
     List<Checklist> findByGuidelineId(Long guidelineId);
     
+    // ChecklistResponse 변환에 필요한 제공업체/서비스/가이드라인을 한 번에 조회
+    @EntityGraph(attributePaths = {"cloudProvider", "serviceList", "guideline"})
     @Query("SELECT c FROM Checklist c WHERE c.cloudProvider.id = :cloudProviderId AND c.serviceList.id = :serviceListId AND c.isActive = true ORDER BY c.id ASC")
     List<Checklist> findByCloudProviderIdAndServiceListIdAndIsActiveTrue(Long cloudProviderId, Long serviceListId);
     
+    @EntityGraph(attributePaths = {"cloudProvider", "serviceList", "guideline"})
     @Query("SELECT c FROM Checklist c WHERE c.isActive = true ORDER BY c.id ASC")
     List<Checklist> findAllActiveOrderedByProviderServiceGuideline();
     
+    @EntityGraph(attributePaths = {"cloudProvider", "serviceList", "guideline"})
     List<Checklist> findAllByOrderByIdAsc();
-}
\ No newline at end of file
+    
+    @EntityGraph(attributePaths = {"cloudProvider", "serviceList", "guideline"})
+    Optional<Checklist> findWithAssociationsById(Long id);
+    
+    /**
+     * 가이드라인의 서비스가 바뀌었을 때 하위 체크리스트를 한 번의 UPDATE 로 재배정
+     * 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 clear 하여 오래된 엔티티가 남지 않게 함
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Checklist c SET c.serviceList = :serviceList, c.cloudProvider = :cloudProvider, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.guideline.id = :guidelineId AND (c.serviceList <> :serviceList OR c.cloudProvider <> :cloudProvider)")
+    int reassignByGuidelineId(Long guidelineId, ServiceList serviceList, CloudProvider cloudProvider);
+}
@@ -2,9 +2,30 @@ package com.ksj.clouddoctorweb.repository;
 
 import com.ksj.clouddoctorweb.entity.GuidelineSolutionImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 public interface GuidelineSolutionImageRepository extends JpaRepository<GuidelineSolutionImage, Long> {
     List<GuidelineSolutionImage> findByGuidelineIdOrderByDisplayOrderAsc(Long guidelineId);
     void deleteByGuidelineId(Long guidelineId);
+    
+    /**
+     * 파생본이 아직 없는 이미지 ID (백필용)
+     */
+    @Query("SELECT i.id FROM GuidelineSolutionImage i WHERE i.thumbnailUrl IS NULL ORDER BY i.id")
+    List<Long> findIdsWithoutDerivatives();
+    
+    /**
+     * 파생본 URL 기록 (엔티티를 다시 읽지 않고 해당 컬럼만 갱신)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GuidelineSolutionImage i SET i.contentHash = :contentHash, i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.id = :id")
+    int updateDerivatives(@Param("id") Long id,
+                          @Param("contentHash") String contentHash,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
 }
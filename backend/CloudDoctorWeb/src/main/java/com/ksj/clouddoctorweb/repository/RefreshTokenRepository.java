@@ -1,11 +1,14 @@
 package com.ksj.clouddoctorweb.repository;
 
 import com.ksj.clouddoctorweb.entity.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    // 검증/삭제 시 사용자 정보가 필요하므로 함께 조회 (트랜잭션 밖 지연 로딩 방지)
+    @EntityGraph(attributePaths = "user")
     Optional<RefreshToken> findByToken(String token);
     void deleteByUserId(Long userId);
     void deleteByUserUsername(String username);
@@ -1,14 +1,23 @@
 package com.ksj.clouddoctorweb.repository;
 
 import com.ksj.clouddoctorweb.entity.ServiceList;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import java.util.Optional;
 
 public interface ServiceListRepository extends JpaRepository<ServiceList, Long> {
     List<ServiceList> findByCloudProviderIdAndIsActiveTrue(Long cloudProviderId);
     List<ServiceList> findByIsActiveTrue();
+    
+    // ServiceListResponse 변환에 필요한 제공업체를 함께 조회
+    @EntityGraph(attributePaths = "cloudProvider")
     List<ServiceList> findByCloudProviderIdAndIsActiveTrueOrderByIdAsc(Long cloudProviderId);
+    @EntityGraph(attributePaths = "cloudProvider")
     List<ServiceList> findByCloudProviderIdOrderByIdAsc(Long cloudProviderId);
+    @EntityGraph(attributePaths = "cloudProvider")
     List<ServiceList> findAllByOrderByIdAsc();
+    @EntityGraph(attributePaths = "cloudProvider")
+    Optional<ServiceList> findWithCloudProviderById(Long id);
     boolean existsByCloudProviderIdAndName(Long cloudProviderId, String name);
-}
\ No newline at end of file
+}
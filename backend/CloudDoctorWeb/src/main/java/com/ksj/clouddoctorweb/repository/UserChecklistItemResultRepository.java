@@ -0,0 +1,17 @@
+package com.ksj.clouddoctorweb.repository;
+
+import com.ksj.clouddoctorweb.entity.UserChecklistItemResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface UserChecklistItemResultRepository extends JpaRepository<UserChecklistItemResult, Long> {
+    
+    @Query("SELECT i.checklist.id AS checklistId, i.isChecked AS isChecked FROM UserChecklistItemResult i WHERE i.userChecklistResult.id = :resultId ORDER BY i.checklist.id ASC")
+    List<AnswerRow> findAnswersByResultId(Long resultId);
+    
+    interface AnswerRow {
+        Long getChecklistId();
+        Boolean getIsChecked();
+    }
+}
@@ -1,9 +1,34 @@
 package com.ksj.clouddoctorweb.repository;
 
+import com.ksj.clouddoctorweb.dto.ChecklistResultSummary;
 import com.ksj.clouddoctorweb.entity.UserChecklistResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface UserChecklistResultRepository extends JpaRepository<UserChecklistResult, Long> {
     List<UserChecklistResult> findByUserId(Long userId);
+    
+    /**
+     * 목록용 요약 조회 (notes, 사용자 연관 없이 필요한 컬럼만 조회)
+     */
+    @Query(value = "SELECT new com.ksj.clouddoctorweb.dto.ChecklistResultSummary(r.id, r.resultName, r.completionDate, r.score) " +
+                   "FROM UserChecklistResult r WHERE r.user.id = :userId",
+           countQuery = "SELECT COUNT(r) FROM UserChecklistResult r WHERE r.user.id = :userId")
+    Page<ChecklistResultSummary> findSummariesByUserId(Long userId, Pageable pageable);
+    
+    /**
+     * 버전이 일치할 때만 버전 증가 (0 이면 다른 곳에서 먼저 수정됨)
+     */
+    @Modifying
+    @Query("UPDATE UserChecklistResult r SET r.version = r.version + 1, r.updatedAt = CURRENT_TIMESTAMP, " +
+           "r.resultName = COALESCE(:resultName, r.resultName) " +
+           "WHERE r.id = :id AND r.user.id = :userId AND r.version = :version")
+    int bumpVersion(Long id, Long userId, Long version, String resultName);
+    
+    @Query("SELECT r.version FROM UserChecklistResult r WHERE r.id = :id AND r.user.id = :userId")
+    Long findVersion(Long id, Long userId);
 }
\ No newline at end of file
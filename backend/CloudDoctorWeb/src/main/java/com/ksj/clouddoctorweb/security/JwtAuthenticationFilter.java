@@ -3,6 +3,7 @@ package com.ksj.clouddoctorweb.security;
 import com.ksj.clouddoctorweb.entity.User;
 import com.ksj.clouddoctorweb.repository.UserRepository;
 import com.ksj.clouddoctorweb.service.JwtService;
+import com.ksj.clouddoctorweb.service.UserActivityService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -30,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final UserActivityService userActivityService;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -103,6 +105,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                             SecurityContextHolder.getContext().setAuthentication(authToken);
                             
+                            userActivityService.recordActivity(user.getId());
+                            
                             log.info("토큰 자동 갱신 성공: {}", username);
                             filterChain.doFilter(request, response);
                             return;
@@ -150,6 +154,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         );
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
+                        userActivityService.recordActivity(user.getId());
                         log.info("사용자 {} 인증 성공", username);
                     } else {
                         log.warn("비활성 사용자: {}", username);
@@ -0,0 +1,70 @@
+package com.ksj.clouddoctorweb.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인프라 점검 작업
+ * 스케줄러 대기열에 들어가는 단위 작업과 그 진행 상태
+ */
+@Getter
+public class AuditJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String username;
+    private final String companyKey;
+    private final String accountId;
+    private final Callable<Object> task;
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile Object result;
+    private volatile Throwable failure;
+    // 실행 중 진행 상태 (다중 계정 점검의 계정별 진행률 등)
+    private volatile Object progress;
+
+    public AuditJob(String username, String companyKey, String accountId, Callable<Object> task) {
+        this.username = username;
+        this.companyKey = companyKey;
+        this.accountId = accountId;
+        this.task = task;
+    }
+
+    public void markRunning() {
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void complete(Object result) {
+        this.result = result;
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        future.complete(result);
+    }
+
+    public void fail(Throwable failure) {
+        this.failure = failure;
+        this.status = Status.FAILED;
+        this.completedAt = LocalDateTime.now();
+        future.completeExceptionally(failure);
+    }
+
+    public void attachProgress(Object progress) {
+        this.progress = progress;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse.CheckResult;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점검 항목별 결과 캐시 (Redis)
+ * 키: audit_result:{userId}:{accountId}:{역할 해시}:{checkId}, TTL 은 점검 항목별 설정
+ * (infraaudit.cache.ttl-minutes.{checkId}, 미설정 시 default-ttl-minutes)
+ * 역할 해시는 roleName + externalId 의 SHA-256 앞부분 → 역할/External ID 가 바뀌면 캐시를 쓰지 않고 다시 AssumeRole 부터 점검
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class AuditResultCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    @Value("${infraaudit.cache.default-ttl-minutes:30}")
+    private long defaultTtlMinutes;
+
+    /**
+     * 점검 항목별 캐시 조회 (한 번의 MGET 으로 조회, 만료/미존재 항목은 결과에서 제외)
+     */
+    public Map<String, CachedCheck> getAll(Long userId, String accountId, String roleName, String externalId,
+                                           List<String> checkIds) {
+        Map<String, CachedCheck> cached = new HashMap<>();
+        if (checkIds.isEmpty()) {
+            return cached;
+        }
+        List<String> keys = checkIds.stream()
+            .map(checkId -> key(userId, accountId, roleName, externalId, checkId))
+            .toList();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return cached;
+            }
+            for (int i = 0; i < checkIds.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    cached.put(checkIds.get(i), objectMapper.readValue(value, CachedCheck.class));
+                }
+            }
+        } catch (Exception e) {
+            // 캐시 장애는 점검 자체를 막지 않음 (전체 재점검으로 진행)
+            log.warn("점검 결과 캐시 조회 실패: accountId={}, error={}", accountId, e.getMessage());
+            cached.clear();
+        }
+        return cached;
+    }
+
+    public void put(Long userId, String accountId, String roleName, String externalId, CachedCheck cachedCheck) {
+        try {
+            redisTemplate.opsForValue().set(
+                key(userId, accountId, roleName, externalId, cachedCheck.getCheckId()),
+                objectMapper.writeValueAsString(cachedCheck),
+                ttlMinutes(cachedCheck.getCheckId()),
+                TimeUnit.MINUTES
+            );
+        } catch (Exception e) {
+            log.warn("점검 결과 캐시 저장 실패: accountId={}, checkId={}, error={}",
+                accountId, cachedCheck.getCheckId(), e.getMessage());
+        }
+    }
+
+    private long ttlMinutes(String checkId) {
+        return environment.getProperty("infraaudit.cache.ttl-minutes." + checkId, Long.class, defaultTtlMinutes);
+    }
+
+    private static String key(Long userId, String accountId, String roleName, String externalId, String checkId) {
+        return "audit_result:" + userId + ":" + accountId + ":" + roleHash(roleName, externalId) + ":" + checkId;
+    }
+
+    /**
+     * External ID 를 키에 그대로 남기지 않도록 해시
+     */
+    private static String roleHash(String roleName, String externalId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                ((roleName != null ? roleName : "") + "\n" + (externalId != null ? externalId : "")).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 점검 항목 1개의 결과 스냅샷
+     */
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CachedCheck {
+        private String checkId;
+        private List<CheckResult> results;
+        private Long guidelineId;
+        private LocalDateTime auditedAt;
+    }
+}
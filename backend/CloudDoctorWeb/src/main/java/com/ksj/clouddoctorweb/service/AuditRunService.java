@@ -0,0 +1,31 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.AuditDiffResponse;
+import com.ksj.clouddoctorweb.dto.AuditRunResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 점검 실행 이력 서비스 인터페이스
+ */
+public interface AuditRunService {
+    
+    /**
+     * 점검 결과 저장 (실행 요약 + 개별 결과)
+     * @return 저장된 점검 실행 ID
+     */
+    Long recordRun(User user, InfraAuditResponse response);
+    
+    /**
+     * 점검 실행 이력 조회 (accountId 가 없으면 전체 계정)
+     */
+    Page<AuditRunResponse> getRuns(Long userId, String accountId, Pageable pageable);
+    
+    /**
+     * 두 점검 실행 간 (check_id, resource_id) 기준 비교
+     * @param type 조회할 변경 유형 (null 이면 전체)
+     */
+    AuditDiffResponse diff(Long userId, Long baseRunId, Long targetRunId, AuditDiffResponse.DiffType type, int page, int size);
+}
@@ -0,0 +1,27 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.AuditScheduleRequest;
+import com.ksj.clouddoctorweb.dto.AuditScheduleResponse;
+import com.ksj.clouddoctorweb.entity.User;
+
+import java.util.List;
+
+/**
+ * 정기 인프라 점검 서비스 인터페이스
+ */
+public interface AuditScheduleService {
+
+    AuditScheduleResponse createSchedule(User user, AuditScheduleRequest request);
+
+    List<AuditScheduleResponse> getSchedules(Long userId);
+
+    AuditScheduleResponse updateSchedule(User user, Long scheduleId, AuditScheduleRequest request);
+
+    void deleteSchedule(Long userId, Long scheduleId);
+
+    /**
+     * 실행 시각이 된 정기 점검을 점검 대기열에 등록
+     * 여러 노드가 동시에 실행해도 Redis 임대(lease)를 얻은 노드 하나만 등록
+     */
+    void dispatchDueSchedules();
+}
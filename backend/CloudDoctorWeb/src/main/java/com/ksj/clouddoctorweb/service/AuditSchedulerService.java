@@ -0,0 +1,40 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.entity.User;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 인프라 점검 스케줄러 인터페이스
+ * infraaudit 호출을 전역 동시 실행 상한과 회사/사용자 공정 분배 대기열로 관리
+ */
+public interface AuditSchedulerService {
+
+    /**
+     * 점검 작업 등록 (대기열이 가득 차면 AuditQueueFullException, 사용자 한도를 넘으면 AuditUserLimitException)
+     */
+    AuditJob submit(User user, String accountId, Callable<Object> task);
+
+    /**
+     * 계정별 하위 작업을 묶음 작업 하나로 등록
+     * 묶음은 대기열/회사·사용자 공정 분배/전역 실행 슬롯/사용자 한도에서 1건으로 계산되고,
+     * 실행되면 하위 작업을 가상 스레드로 maxParallel 개까지 동시에 실행
+     * 하위 작업이 AuditRetryLaterException 을 던지면 스레드를 붙잡지 않고 지정한 시간 뒤 다시 실행
+     * 묶음 작업은 모든 하위 작업이 끝나면 progress 를 결과로 완료 (하위 작업 실패는 각 작업이 progress 에 기록)
+     *
+     * @param tasks 계정 ID → 점검 작업 (순서대로 실행)
+     * @param maxParallel 묶음 안에서 동시에 실행할 하위 작업 수
+     */
+    AuditJob submitGroup(User user, String label, Object progress, Map<String, Callable<Object>> tasks, int maxParallel);
+
+    /**
+     * 작업 조회 (본인 작업만)
+     */
+    AuditJob getJob(String jobId, String username);
+
+    /**
+     * 대기열 내 순번 조회 (1부터 시작, 대기 중이 아니면 0)
+     */
+    int getQueuePosition(String jobId);
+}
@@ -0,0 +1,26 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.AuditTrendPoint;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+
+import java.util.List;
+
+/**
+ * 점검 추이 집계 서비스 인터페이스
+ */
+public interface AuditTrendService {
+
+    enum GroupBy {
+        SERVICE, CHECK, ACCOUNT
+    }
+
+    /**
+     * 점검 결과를 점검 항목별 일 단위 집계에 반영 (점검 실행 저장과 같은 트랜잭션에서 호출)
+     */
+    void rollup(Long userId, Long runId, InfraAuditResponse response);
+
+    /**
+     * 최근 days 일간의 추이 조회 (집계 테이블만 조회하므로 비용은 일수 × 그룹 수에 비례)
+     */
+    List<AuditTrendPoint> getTrends(Long userId, String accountId, int days, GroupBy groupBy);
+}
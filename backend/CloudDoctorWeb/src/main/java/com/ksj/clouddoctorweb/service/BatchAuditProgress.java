@@ -0,0 +1,100 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 계정 점검의 계정별 진행 상태
+ * 작업 실행 중에도 /audit/jobs/{jobId} 로 조회되므로 계정별 상태는 하위 작업 가상 스레드에서 동시에 갱신됨
+ */
+@Getter
+public class BatchAuditProgress {
+
+    public enum AccountStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final int total;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Map<String, AccountProgress> accounts = new LinkedHashMap<>();
+
+    public BatchAuditProgress(List<String> accountIds) {
+        this.total = accountIds.size();
+        for (String accountId : accountIds) {
+            accounts.put(accountId, new AccountProgress(accountId));
+        }
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public Collection<AccountProgress> getAccounts() {
+        return new ArrayList<>(accounts.values());
+    }
+
+    /**
+     * 재시도 대기 (infraaudit 동시 호출 슬롯 부족)
+     */
+    public void markPending(String accountId) {
+        AccountProgress account = accounts.get(accountId);
+        account.status = AccountStatus.PENDING;
+    }
+
+    public void markRunning(String accountId) {
+        AccountProgress account = accounts.get(accountId);
+        account.status = AccountStatus.RUNNING;
+        account.startedAt = LocalDateTime.now();
+    }
+
+    public void markCompleted(String accountId, InfraAuditResponse response) {
+        AccountProgress account = accounts.get(accountId);
+        account.runId = response.getRunId();
+        account.summary = response.getSummary();
+        account.completedAt = LocalDateTime.now();
+        account.status = AccountStatus.COMPLETED;
+        completed.incrementAndGet();
+    }
+
+    public void markFailed(String accountId, Throwable failure) {
+        AccountProgress account = accounts.get(accountId);
+        InfraAuditException.Reason reason = failure instanceof InfraAuditException auditException
+            ? auditException.getReason()
+            : InfraAuditException.Reason.UNKNOWN;
+        account.error = reason.getUserMessage();
+        account.errorCode = reason.name();
+        account.completedAt = LocalDateTime.now();
+        account.status = AccountStatus.FAILED;
+        failed.incrementAndGet();
+    }
+
+    @Getter
+    public static class AccountProgress {
+        private final String accountId;
+        private volatile AccountStatus status = AccountStatus.PENDING;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile Long runId;
+        private volatile Map<String, Integer> summary;
+        private volatile String error;
+        private volatile String errorCode;
+
+        AccountProgress(String accountId) {
+            this.accountId = accountId;
+        }
+    }
+}
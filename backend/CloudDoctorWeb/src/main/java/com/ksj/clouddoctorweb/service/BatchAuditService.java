@@ -0,0 +1,16 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.InfraAuditBatchRequest;
+import com.ksj.clouddoctorweb.entity.User;
+
+/**
+ * 다중 계정 인프라 점검 서비스 인터페이스
+ */
+public interface BatchAuditService {
+
+    /**
+     * 여러 계정 점검을 하나의 작업으로 대기열에 등록
+     * 작업이 실행되면 계정별 점검을 가상 스레드로 병렬 실행 (동시 실행 수는 설정값으로 제한)
+     */
+    AuditJob submitBatch(User user, InfraAuditBatchRequest request);
+}
@@ -0,0 +1,27 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.CatalogImportReport;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 가이드라인 카탈로그(서비스/가이드라인/링크/체크리스트) 일괄 가져오기/내보내기 서비스 인터페이스
+ * 번들 형식은 CatalogBundleRecord 의 JSON 배열 또는 NDJSON
+ */
+public interface CatalogTransferService {
+
+    /**
+     * 번들을 스트리밍으로 읽어 한 트랜잭션 안에서 JDBC 배치로 저장
+     * 이미 있는 서비스/가이드라인/체크리스트(같은 이름)는 새로 만들지 않고 기존 항목을 참조
+     * @param adminId 가이드라인/체크리스트 작성자로 기록할 관리자 ID
+     * @return 레코드별 처리 결과
+     */
+    CatalogImportReport importBundle(Long adminId, InputStream in);
+
+    /**
+     * 전체 카탈로그를 가져오기와 같은 형식의 NDJSON 으로 스트리밍
+     * @return 기록한 레코드 수
+     */
+    long exportBundle(OutputStream out);
+}
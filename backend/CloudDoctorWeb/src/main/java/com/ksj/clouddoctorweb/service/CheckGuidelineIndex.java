@@ -0,0 +1,117 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.AuditGuidelineInfo;
+import com.ksj.clouddoctorweb.entity.Checklist;
+import com.ksj.clouddoctorweb.entity.Guideline;
+import com.ksj.clouddoctorweb.repository.ChecklistRepository;
+import com.ksj.clouddoctorweb.repository.GuidelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 점검 항목(check_id) → 가이드라인/체크리스트 인메모리 인덱스
+ * 가이드라인 카탈로그 전체를 한 번에 읽어 불변 스냅샷으로 보관하고, 관리자가 카탈로그를 변경하면
+ * 무효화 후 다음 조회 시 재구성 (점검 결과 1건당 DB 조회 없이 O(1) 조회)
+ * check_id → guideline_id 매핑은 infraaudit 응답의 guideline_ids 에서 학습
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class CheckGuidelineIndex {
+
+    private final GuidelineRepository guidelineRepository;
+    private final ChecklistRepository checklistRepository;
+
+    private final Map<String, Long> guidelineIdByCheck = new ConcurrentHashMap<>();
+    private volatile Map<Long, AuditGuidelineInfo> guidelines = Map.of();
+    private volatile boolean stale = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 기동 시 DB 문제로 실패해도 첫 조회 시 다시 시도
+            log.warn("가이드라인 인덱스 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가이드라인/체크리스트 변경 시 호출 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * infraaudit 응답의 guideline_ids 로 check_id → guideline_id 매핑 갱신
+     */
+    public void learn(Map<String, Long> guidelineIds) {
+        if (guidelineIds == null) {
+            return;
+        }
+        guidelineIds.forEach((checkId, guidelineId) -> {
+            if (checkId != null && guidelineId != null) {
+                guidelineIdByCheck.put(checkId, guidelineId);
+            }
+        });
+    }
+
+    public Long guidelineIdFor(String checkId) {
+        return checkId != null ? guidelineIdByCheck.get(checkId) : null;
+    }
+
+    public AuditGuidelineInfo get(Long guidelineId) {
+        if (guidelineId == null) {
+            return null;
+        }
+        if (stale) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                // 재구성 실패 시 이전 스냅샷으로 응답
+                log.warn("가이드라인 인덱스 재구성 실패: {}", e.getMessage());
+            }
+        }
+        return guidelines.get(guidelineId);
+    }
+
+    public synchronized void rebuild() {
+        if (!stale) {
+            return;
+        }
+        // 재구성 도중 들어온 무효화는 다음 조회에서 다시 반영되도록 먼저 해제
+        stale = false;
+        try {
+            Map<Long, List<Long>> checklistIds = new HashMap<>();
+            Map<Long, List<String>> checklistTitles = new HashMap<>();
+            for (Checklist checklist : checklistRepository.findAllActiveOrderedByProviderServiceGuideline()) {
+                Long guidelineId = checklist.getGuideline().getId();
+                checklistIds.computeIfAbsent(guidelineId, key -> new ArrayList<>()).add(checklist.getId());
+                checklistTitles.computeIfAbsent(guidelineId, key -> new ArrayList<>()).add(checklist.getTitle());
+            }
+
+            Map<Long, AuditGuidelineInfo> rebuilt = new HashMap<>();
+            for (Guideline guideline : guidelineRepository.findAllByOrderByIdAsc()) {
+                rebuilt.put(guideline.getId(), AuditGuidelineInfo.from(
+                    guideline,
+                    checklistIds.getOrDefault(guideline.getId(), List.of()),
+                    checklistTitles.getOrDefault(guideline.getId(), List.of())));
+            }
+            guidelines = Map.copyOf(rebuilt);
+            log.info("가이드라인 인덱스 재구성: guidelines={}", rebuilt.size());
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.ChecklistDraftRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistDraftResponse;
+
+/**
+ * 체크리스트 임시 저장 서비스 인터페이스
+ * 자동 저장 변경분은 Redis 에 모아 두었다가 완료 시, 일정 시간 편집이 없을 때, 주기적 일괄 반영 시 DB 에 반영
+ */
+public interface ChecklistDraftService {
+    
+    /**
+     * 변경분 임시 저장 (같은 항목을 여러 번 바꾸면 마지막 값만 남음)
+     * 본인 결과지인지와 현재 버전만 확인하고 답변은 DB 에 쓰지 않음
+     */
+    ChecklistDraftResponse saveDraft(Long userId, Long resultId, ChecklistDraftRequest request);
+    
+    ChecklistDraftResponse getDraft(Long userId, Long resultId);
+    
+    /**
+     * 임시 저장분을 즉시 DB 에 반영 (체크리스트 완료 시)
+     * @return 반영된 항목 수
+     */
+    int flush(Long userId, Long resultId);
+    
+    /**
+     * 임시 저장분 폐기 (결과지 전체 수정 후, 이전 변경분이 새 답변을 덮어쓰지 않도록)
+     */
+    void discard(Long userId, Long resultId);
+    
+    /**
+     * 편집이 멈춘 임시 저장분 일괄 반영 (스케줄러)
+     */
+    void flushIdleDrafts();
+}
@@ -0,0 +1,27 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.util.ExportRowWriter;
+
+import java.io.OutputStream;
+
+/**
+ * 체크리스트 결과 / 점검 결과 내보내기 서비스 인터페이스
+ * DB 커서로 한 행씩 읽어 바로 스트림에 기록 (행 수와 무관하게 메모리 사용량 일정)
+ */
+public interface ExportService {
+    
+    /**
+     * 내 체크리스트 답변 내보내기
+     * @param resultId 특정 결과지만 내보낼 때 지정 (null 이면 전체)
+     * @return 기록한 행 수
+     */
+    long exportChecklistResults(Long userId, Long resultId, ExportRowWriter.Format format, OutputStream out);
+    
+    /**
+     * 내 인프라 점검 결과 내보내기
+     * @param runId 특정 실행만 내보낼 때 지정 (null 이면 전체)
+     * @param accountId 특정 계정만 내보낼 때 지정 (null 이면 전체)
+     * @return 기록한 행 수
+     */
+    long exportAuditFindings(Long userId, Long runId, String accountId, ExportRowWriter.Format format, OutputStream out);
+}
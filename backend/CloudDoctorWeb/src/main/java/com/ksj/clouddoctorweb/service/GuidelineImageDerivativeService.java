@@ -0,0 +1,20 @@
+package com.ksj.clouddoctorweb.service;
+
+/**
+ * 가이드라인 조치방안 이미지 파생본(썸네일 / 중간 크기) 생성 서비스 인터페이스
+ * 업로드 직후 한 번만 백그라운드에서 생성하고, 결과 URL 은 이미지 행에 기록
+ */
+public interface GuidelineImageDerivativeService {
+    
+    /**
+     * 파생본 생성 예약 (트랜잭션 안에서 호출하면 커밋 후 실행)
+     * 작업 대기열이 가득 차면 건너뛰며, 누락분은 scheduleMissing 으로 다시 생성
+     */
+    void schedule(Long imageId);
+    
+    /**
+     * 파생본이 없는 기존 이미지 전체 예약
+     * @return 예약한 이미지 수
+     */
+    int scheduleMissing();
+}
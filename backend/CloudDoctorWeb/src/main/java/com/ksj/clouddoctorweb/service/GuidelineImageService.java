@@ -0,0 +1,32 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.ImageUploadPresignRequest;
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
+import com.ksj.clouddoctorweb.entity.GuidelineSolutionImage;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 가이드라인 조치방안 이미지 서비스 인터페이스
+ */
+public interface GuidelineImageService {
+    
+    /**
+     * 브라우저 직접 업로드용 Presigned PUT URL 발급 (1단계)
+     */
+    PresignedUploadResponse presignUpload(Long guidelineId, ImageUploadPresignRequest request);
+    
+    /**
+     * 직접 업로드된 객체를 확인하고 이미지 행 저장 (2단계)
+     * 같은 key 로 다시 확인하면 기존 행을 그대로 반환
+     */
+    GuidelineSolutionImage confirmUpload(Long guidelineId, String key);
+    
+    /**
+     * 서버 경유 업로드 (multipart 를 받아 S3 로 비동기 전달)
+     * 업로드가 끝나면 이미지 행을 저장하고 완료되는 future 반환
+     */
+    CompletableFuture<GuidelineSolutionImage> upload(Long guidelineId, MultipartFile file) throws IOException;
+}
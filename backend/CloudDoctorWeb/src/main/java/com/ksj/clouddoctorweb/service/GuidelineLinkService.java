@@ -0,0 +1,19 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.GuidelineLinkRequest;
+
+import java.util.List;
+
+/**
+ * 가이드라인 참고 링크 서비스 인터페이스
+ */
+public interface GuidelineLinkService {
+    
+    /**
+     * 요청 링크 목록을 기존 링크와 URL 기준으로 비교하여 달라진 부분만 반영
+     * 추가/제목 변경/삭제를 각각 한 번의 배치로 실행하고, 변경이 없으면 쓰기 없음
+     * @param links 요청 링크 (URL 이 비어 있는 항목은 무시)
+     * @return 반영 후 링크 목록 (기존 링크 순서 유지, 새 링크는 뒤에 추가)
+     */
+    List<GuidelineLinkRequest> syncLinks(Long guidelineId, List<GuidelineLinkRequest> links);
+}
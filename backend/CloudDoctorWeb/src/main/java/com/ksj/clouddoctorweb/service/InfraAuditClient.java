@@ -0,0 +1,198 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
+import com.ksj.clouddoctorweb.exception.InfraAuditException.Reason;
+import com.ksj.clouddoctorweb.util.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Python infraaudit API 클라이언트
+ * 인프라 점검 요청을 FastAPI 서비스로 전달
+ * - 벌크헤드: 동시 호출 수 상한 (초과 시 대기 후 BULKHEAD_FULL)
+ * - 서킷 브레이커: 연속 장애 시 즉시 실패, 일정 시간 후 탐침 호출로 복구 확인
+ * - 실패 원인은 응답 시점에 한 번만 분류하여 InfraAuditException.Reason 으로 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class InfraAuditClient {
+
+    // botocore ClientError 메시지 형식: "An error occurred (AccessDenied) when calling the AssumeRole operation: ..."
+    private static final Pattern AWS_ERROR_CODE = Pattern.compile("An error occurred \\((\\w+)\\) when calling the (\\w+) operation");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${infraaudit.api.url}")
+    private String infraauditApiUrl;
+
+    @Value("${infraaudit.client.connect-timeout-seconds:3}")
+    private long connectTimeoutSeconds;
+
+    @Value("${infraaudit.client.read-timeout-seconds:300}")
+    private long readTimeoutSeconds;
+
+    @Value("${infraaudit.client.bulkhead-max-concurrent-calls:8}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${infraaudit.client.bulkhead-max-wait-millis:2000}")
+    private long bulkheadMaxWaitMillis;
+
+    @Value("${infraaudit.client.circuit-failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${infraaudit.client.circuit-open-seconds:30}")
+    private long circuitOpenSeconds;
+
+    private RestTemplate restTemplate;
+    private Semaphore bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(connectTimeoutSeconds));
+        requestFactory.setReadTimeout(Duration.ofSeconds(readTimeoutSeconds));
+        restTemplate = new RestTemplate(requestFactory);
+        bulkhead = new Semaphore(bulkheadMaxConcurrentCalls, true);
+        circuitBreaker = new CircuitBreaker("infraaudit", circuitFailureThreshold, Duration.ofSeconds(circuitOpenSeconds));
+    }
+
+    /**
+     * 인프라 점검 실행 (점검 완료까지 대기)
+     * @return infraaudit 응답 본문 (AuditResponse JSON)
+     * @throws InfraAuditException 호출 실패 (원인 분류 포함)
+     */
+    public String startAudit(InfraAuditRequest request) {
+        acquireBulkhead();
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new InfraAuditException(Reason.CIRCUIT_OPEN, "infraaudit circuit open",
+                    circuitBreaker.getRemainingOpenSeconds(), null);
+            }
+            try {
+                String body = post(request);
+                circuitBreaker.onSuccess();
+                return body;
+            } catch (InfraAuditException e) {
+                if (e.getReason().isServiceFailure()) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onIgnored();
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private String post(InfraAuditRequest request) {
+        String pythonApiUrl = infraauditApiUrl + "/api/audit/start";
+
+        // 요청 데이터 준비
+        Map<String, Object> auditRequest = new HashMap<>();
+        auditRequest.put("account_id", request.getAccountId());
+        auditRequest.put("role_name", request.getRoleName());
+        auditRequest.put("external_id", request.getExternalId());
+        auditRequest.put("checks", request.getChecks());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(auditRequest, headers);
+
+        log.info("파이썬 API 요청: URL={}, data={}", pythonApiUrl, auditRequest);
+
+        try {
+            ResponseEntity<String> pythonResponse = restTemplate.postForEntity(pythonApiUrl, entity, String.class);
+            return pythonResponse.getBody();
+        } catch (HttpStatusCodeException e) {
+            throw classify(e);
+        } catch (ResourceAccessException e) {
+            Reason reason = e.getCause() instanceof SocketTimeoutException ? Reason.TIMEOUT : Reason.SERVICE_UNAVAILABLE;
+            throw new InfraAuditException(reason, e.getMessage(), 0, e);
+        } catch (RestClientException e) {
+            throw new InfraAuditException(Reason.UNKNOWN, e.getMessage(), 0, e);
+        }
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadMaxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new InfraAuditException(Reason.BULKHEAD_FULL, "infraaudit bulkhead full", 1, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InfraAuditException(Reason.BULKHEAD_FULL, "interrupted while waiting for bulkhead", 1, e);
+        }
+    }
+
+    /**
+     * HTTP 오류 응답을 실패 원인으로 분류
+     */
+    private InfraAuditException classify(HttpStatusCodeException e) {
+        int status = e.getStatusCode().value();
+        if (status == 502 || status == 503 || status == 504) {
+            return new InfraAuditException(Reason.SERVICE_UNAVAILABLE, "infraaudit HTTP " + status, 0, e);
+        }
+        if (e.getStatusCode().is4xxClientError()) {
+            return new InfraAuditException(Reason.INVALID_REQUEST, e.getResponseBodyAsString(), 0, e);
+        }
+
+        String detail = extractDetail(e.getResponseBodyAsString());
+        Matcher matcher = AWS_ERROR_CODE.matcher(detail);
+        if (!matcher.find()) {
+            return new InfraAuditException(Reason.UNKNOWN, detail, 0, e);
+        }
+        Reason reason = switch (matcher.group(1)) {
+            case "AccessDenied" -> "AssumeRole".equals(matcher.group(2)) ? Reason.ROLE_ACCESS_DENIED : Reason.AWS_ERROR;
+            case "NoSuchEntity" -> Reason.ROLE_NOT_FOUND;
+            case "InvalidParameterValue", "ValidationError" -> detail.contains("ExternalId") ? Reason.EXTERNAL_ID_MISMATCH : Reason.AWS_ERROR;
+            default -> Reason.AWS_ERROR;
+        };
+        return new InfraAuditException(reason, detail, 0, e);
+    }
+
+    /**
+     * FastAPI HTTPException 응답 본문 {"detail": "..."} 에서 detail 추출
+     */
+    private String extractDetail(String body) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode detail = objectMapper.readTree(body).path("detail");
+            return detail.isTextual() ? detail.asText() : body;
+        } catch (Exception ignored) {
+            return body;
+        }
+    }
+}
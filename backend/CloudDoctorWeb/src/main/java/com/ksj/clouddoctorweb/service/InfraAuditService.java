@@ -0,0 +1,17 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.entity.User;
+
+/**
+ * 인프라 점검 실행 서비스 인터페이스
+ */
+public interface InfraAuditService {
+
+    /**
+     * 인프라 점검 실행
+     * 캐시가 유효한 점검 항목은 재실행하지 않고, 만료되었거나 명시적으로 요청된 항목만 infraaudit 로 전달 후 결과 병합
+     */
+    InfraAuditResponse runAudit(User user, InfraAuditRequest request);
+}
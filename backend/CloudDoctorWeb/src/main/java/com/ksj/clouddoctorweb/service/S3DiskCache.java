@@ -0,0 +1,261 @@
+package com.ksj.clouddoctorweb.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * S3 객체 디스크 캐시 (LRU, 전체 크기 상한)
+ * /files/** 요청 시 S3 에서 한 번 받아 두고 이후에는 로컬 파일을 그대로 전송
+ * 객체 키에 UUID 또는 내용 해시가 들어가 내용이 바뀌지 않으므로 만료/재검증 없이 용량 초과 시에만 제거
+ * - 전송 중인 항목은 고정(get ~ release) 하여 용량 정리 대상에서 제외
+ * - 없는 객체는 잠시 기억하여 같은 키 요청마다 S3 를 호출하지 않음
+ */
+@Component
+@Log4j2
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true", matchIfMissing = false)
+public class S3DiskCache {
+
+    /**
+     * 캐시 미스 시 대상 경로(아직 없는 파일)에 객체를 내려받음, 객체가 없으면 false
+     */
+    @FunctionalInterface
+    public interface Loader {
+        boolean load(Path target) throws IOException;
+    }
+
+    @Value("${aws.s3.cache.dir:./data/s3-cache}")
+    private String cacheDir;
+
+    @Value("${aws.s3.cache.max-bytes:1073741824}")
+    private long maxBytes;
+
+    @Value("${aws.s3.cache.negative-ttl-seconds:60}")
+    private long negativeTtlSeconds;
+
+    @Value("${aws.s3.cache.negative-max-entries:10000}")
+    private int negativeMaxEntries;
+
+    private Path root;
+
+    // 접근 순서 LinkedHashMap (맨 앞이 가장 오래 전에 사용됨), this 로 보호
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+    // 전송 중인 항목별 고정 횟수 (this 로 보호)
+    private final Map<String, Integer> pins = new HashMap<>();
+
+    // 없는 객체 → 다시 확인할 시각 (epoch millis), 삽입 순서로 오래된 것부터 제거 (this 로 보호)
+    private final LinkedHashMap<String, Long> missing = new LinkedHashMap<>();
+
+    // 같은 키를 동시에 여러 번 내려받지 않도록 키별 잠금
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(cacheDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        // 재시작 후에도 기존 캐시 재사용 (수정 시각 순으로 LRU 순서 복원, 내려받다 남은 임시 파일은 삭제)
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(root)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        }
+        files.stream()
+            .sorted(Comparator.comparingLong(S3DiskCache::lastModified))
+            .forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.contains(".tmp-")) {
+                    deleteQuietly(file);
+                    return;
+                }
+                long size = sizeOf(file);
+                synchronized (this) {
+                    entries.put(name, size);
+                    totalBytes += size;
+                }
+            });
+        synchronized (this) {
+            evict();
+        }
+        log.info("S3 디스크 캐시: dir={}, entries={}, bytes={}/{}", root, entries.size(), totalBytes, maxBytes);
+    }
+
+    /**
+     * 캐시된 파일 경로 (없으면 loader 로 내려받은 뒤 반환, 객체가 없으면 null)
+     * 반환된 파일은 release(key) 전까지 삭제되지 않음
+     */
+    public Path get(String key, Loader loader) throws IOException {
+        String name = fileNameOf(key);
+        Path file = root.resolve(name);
+        if (touch(name, file)) {
+            return file;
+        }
+        if (isKnownMissing(name)) {
+            return null;
+        }
+
+        Object lock = loadLocks.computeIfAbsent(name, ignored -> new Object());
+        try {
+            synchronized (lock) {
+                // 기다리는 동안 다른 요청이 받아 두었을 수 있음
+                if (touch(name, file)) {
+                    return file;
+                }
+                if (isKnownMissing(name)) {
+                    return null;
+                }
+                Path temp = root.resolve(name + ".tmp-" + UUID.randomUUID());
+                try {
+                    if (!loader.load(temp)) {
+                        rememberMissing(name);
+                        return null;
+                    }
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                long size = Files.size(file);
+                synchronized (this) {
+                    Long previous = entries.put(name, size);
+                    totalBytes += size - (previous != null ? previous : 0);
+                    pins.merge(name, 1, Integer::sum);
+                    evict();
+                }
+                return file;
+            }
+        } finally {
+            loadLocks.remove(name, lock);
+        }
+    }
+
+    /**
+     * 전송이 끝난 항목 고정 해제 (고정 중 미뤄 둔 용량 정리도 이때 수행)
+     */
+    public synchronized void release(String key) {
+        String name = fileNameOf(key);
+        pins.computeIfPresent(name, (ignored, count) -> count > 1 ? count - 1 : null);
+        if (totalBytes > maxBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * 새로 저장한 객체를 없는 객체 기록에서 제거
+     */
+    public synchronized void forgetMissing(String key) {
+        missing.remove(fileNameOf(key));
+    }
+
+    /**
+     * 캐시에 있으면 최근 사용으로 표시하고 고정
+     */
+    private synchronized boolean touch(String name, Path file) {
+        if (entries.get(name) == null) {
+            return false;
+        }
+        if (Files.exists(file)) {
+            pins.merge(name, 1, Integer::sum);
+            return true;
+        }
+        // 캐시 디렉터리에서 직접 지운 경우
+        totalBytes -= entries.remove(name);
+        return false;
+    }
+
+    private synchronized boolean isKnownMissing(String name) {
+        Long until = missing.get(name);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        missing.remove(name);
+        return false;
+    }
+
+    private synchronized void rememberMissing(String name) {
+        if (negativeTtlSeconds <= 0) {
+            return;
+        }
+        missing.remove(name);
+        missing.put(name, System.currentTimeMillis() + negativeTtlSeconds * 1000);
+        Iterator<String> iterator = missing.keySet().iterator();
+        while (missing.size() > negativeMaxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 용량 상한까지 오래된 항목부터 삭제 (고정된 항목은 제외, 고정이 풀릴 때 다시 정리)
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (pins.containsKey(eldest.getKey())) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(root.resolve(eldest.getKey()));
+        }
+    }
+
+    /**
+     * 객체 키를 파일 이름으로 사용하지 않고 해시 (경로 구분자/특수문자 문제 방지)
+     */
+    private static String fileNameOf(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {} ({})", file, e.getMessage());
+        }
+    }
+}
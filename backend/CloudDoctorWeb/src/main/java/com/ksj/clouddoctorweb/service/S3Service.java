@@ -1,82 +1,97 @@
 package com.ksj.clouddoctorweb.service;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.stereotype.Service;
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.UUID;
-
-@Service
-@RequiredArgsConstructor
-@Log4j2
-@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true", matchIfMissing = false)
-public class S3Service {
-
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
-
-    @Value("${aws.s3.bucket-name}")
-    private String bucketName;
-
-    @Value("${aws.s3.region}")
-    private String region;
-
-    public String uploadImage(MultipartFile file, String folder) throws IOException {
-        String fileName = folder + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
-
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .contentType(file.getContentType())
-                .build();
-
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-        String imageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
-        log.info("이미지 업로드 성공: {}", imageUrl);
-
-        return imageUrl;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미지 객체 저장소 인터페이스
+ * aws.s3.enabled=true 이면 S3(S3ServiceImpl), 아니면 로컬 파일시스템(LocalFileStorageServiceImpl)
+ * 객체 키 형식은 두 구현이 같으므로 저장소를 바꿔도 호출부는 그대로 사용
+ */
+public interface S3Service {
+
+    /**
+     * /files/** 로 공개하는 객체 키 접두사 (가이드라인 이미지와 파생본만 공개, 버킷의 다른 객체는 내려주지 않음)
+     */
+    String PUBLIC_KEY_PREFIX = "guidelines/";
+
+    /**
+     * 서버 경유 업로드 (비동기)
+     * @return 업로드 후 공개 URL
+     */
+    CompletableFuture<String> uploadImage(MultipartFile file, String folder) throws IOException;
+
+    /**
+     * 브라우저가 저장소로 직접 PUT 할 수 있는 URL 발급 (Content-Type / Content-Length 를 서명에 포함)
+     */
+    PresignedUploadResponse generatePresignedUploadUrl(String folder, String fileName, String contentType, long contentLength);
+
+    String generatePresignedDownloadUrl(String key);
+
+    /**
+     * 업로드된 객체 메타데이터 조회 (없으면 null)
+     */
+    HeadObjectResponse headObject(String key);
+
+    /**
+     * 객체 전체를 메모리로 읽기 (파생본 생성용, 업로드 크기 제한 이내의 이미지에만 사용)
+     */
+    byte[] getObjectBytes(String key);
+
+    /**
+     * 내용이 바뀌지 않는 객체(키에 내용 해시 포함) 저장, 영구 캐시 헤더를 함께 기록
+     */
+    String putImmutable(String key, byte[] content, String contentType);
+
+    String publicUrl(String key);
+
+    /**
+     * /files/** 로 내려줄 로컬 파일 (로컬 저장소는 원본 파일, S3 는 디스크 캐시에 받아 둔 사본, 없으면 null)
+     * 파일을 받은 경우 전송이 끝나면 releaseLocalPath 를 호출 (캐시 사본은 그때까지 용량 정리 대상에서 제외)
+     */
+    Path localPath(String key) throws IOException;
+
+    default void releaseLocalPath(String key) {
     }
 
-    public String generatePresignedUploadUrl(String folder, String fileName) {
-        String key = folder + "/" + UUID.randomUUID() + "_" + fileName;
-
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
-
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
-                .putObjectRequest(putObjectRequest)
-                .build();
-
-        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    /**
+     * localPath 파일을 응답 처리 이후에도 유지할 수 있는지
+     * (sendfile 은 컨테이너가 응답 처리 후 파일을 열기 때문에 그 사이 삭제될 수 있는 캐시 사본은 사용 불가)
+     */
+    default boolean isSendfileSafe() {
+        return true;
     }
 
-    public String generatePresignedDownloadUrl(String key) {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
+    /**
+     * 직접 업로드 URL 로 들어온 본문 저장 (로컬 저장소 전용, S3 는 버킷이 직접 받음)
+     */
+    default void receiveSignedUpload(String key, String contentType, long contentLength,
+                                     long expires, String signature, InputStream body) throws IOException {
+        throw new RuntimeException("이 저장소는 서버로 직접 업로드를 받지 않습니다");
+    }
 
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofHours(1)) // 1시간 유효
-                .getObjectRequest(getObjectRequest)
-                .build();
+    /**
+     * publicUrl 의 역변환 (이 저장소의 URL 이 아니면 null)
+     */
+    default String keyOf(String url) {
+        String prefix = publicUrl("");
+        if (url == null || !url.startsWith(prefix) || url.length() == prefix.length()) {
+            return null;
+        }
+        return url.substring(prefix.length());
+    }
 
-        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    /**
+     * 객체 키에는 영문/숫자/.-_ 만 남김 (한글, 공백 등은 URL 인코딩 차이로 서명 불일치가 생길 수 있음)
+     */
+    static String sanitizeFileName(String fileName) {
+        String name = fileName != null ? fileName.replaceAll("[^A-Za-z0-9._-]", "_") : "";
+        return name.isBlank() ? "file" : name;
     }
-}
\ No newline at end of file
+}
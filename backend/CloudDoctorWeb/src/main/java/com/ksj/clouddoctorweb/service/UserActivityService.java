@@ -0,0 +1,24 @@
+package com.ksj.clouddoctorweb.service;
+
+/**
+ * 사용자 로그인 / 활동 시각 기록 서비스 인터페이스
+ * 요청 처리 중에는 메모리에만 기록하고, 주기적으로 users 테이블에 배치 반영 (write-behind)
+ */
+public interface UserActivityService {
+    
+    /**
+     * 로그인 성공 시각 기록 (활동 시각도 함께 갱신)
+     */
+    void recordLogin(Long userId);
+    
+    /**
+     * 인증된 요청 시각 기록
+     */
+    void recordActivity(Long userId);
+    
+    /**
+     * 모아 둔 시각을 DB 에 반영
+     * @return 반영한 사용자 수
+     */
+    int flush();
+}
@@ -0,0 +1,49 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.ChecklistPatchRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistPatchResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistScoreResponse;
+import com.ksj.clouddoctorweb.dto.SaveChecklistRequest;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.entity.UserChecklistResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 체크리스트 결과 서비스 인터페이스
+ */
+public interface UserChecklistService {
+    
+    /**
+     * 점검 결과지 저장 (답변은 항목 행으로 저장)
+     */
+    UserChecklistResult saveResult(User user, SaveChecklistRequest request);
+    
+    /**
+     * 점검 결과지 수정 (요청에 포함된 항목으로 교체)
+     */
+    UserChecklistResult updateResult(User user, Long resultId, SaveChecklistRequest request);
+    
+    /**
+     * 점검 결과지 부분 수정 (변경된 항목 행만 쓰기, 버전 불일치 시 StaleVersionException)
+     */
+    ChecklistPatchResponse patchResult(User user, Long resultId, ChecklistPatchRequest request);
+    
+    /**
+     * 임시 저장된 변경분을 결과지에 반영 (부분 수정과 같이 version 이 일치할 때만, 불일치하거나 없으면 StaleVersionException)
+     * @param version 임시 저장을 시작할 때의 결과지 버전
+     * @return 반영 여부 (결과지가 없거나 소유자가 아니면 false)
+     */
+    boolean applyDraft(Long userId, Long resultId, Long version, Map<String, Boolean> changes, List<Long> removed);
+    
+    /**
+     * 점검 결과지 점수 조회 (저장 시 계산된 값)
+     */
+    ChecklistScoreResponse getScores(User user, Long resultId);
+    
+    /**
+     * 점검 결과지 조회 (항목 행에서 답변 맵 구성)
+     */
+    UserChecklistResult getResult(User user, Long resultId);
+}
@@ -0,0 +1,18 @@
+package com.ksj.clouddoctorweb.service;
+
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionReport;
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionRequest;
+
+/**
+ * 사용자 일괄 생성 서비스 인터페이스 (회사 단위 온보딩)
+ */
+public interface UserProvisioningService {
+    
+    /**
+     * 요청 사용자들을 한 번에 생성
+     * 아이디/이메일 중복은 한 번의 조회로 확인하고, 비밀번호 해시는 제한된 병렬 스레드에서 계산한 뒤 JDBC 배치로 저장
+     * 중복/검증 실패 항목은 건너뛰고 나머지만 생성
+     * @return 항목별 처리 결과
+     */
+    BulkUserProvisionReport provision(BulkUserProvisionRequest request);
+}
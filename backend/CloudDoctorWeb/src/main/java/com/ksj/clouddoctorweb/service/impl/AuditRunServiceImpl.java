@@ -0,0 +1,273 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.AuditDiffResponse;
+import com.ksj.clouddoctorweb.dto.AuditDiffResponse.DiffType;
+import com.ksj.clouddoctorweb.dto.AuditRunResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse.CheckResult;
+import com.ksj.clouddoctorweb.entity.AuditRun;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.repository.AuditFindingRepository;
+import com.ksj.clouddoctorweb.repository.AuditFindingRepository.FindingRow;
+import com.ksj.clouddoctorweb.repository.AuditRunRepository;
+import com.ksj.clouddoctorweb.service.AuditRunService;
+import com.ksj.clouddoctorweb.service.AuditTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 점검 실행 이력 서비스 구현체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AuditRunServiceImpl implements AuditRunService {
+
+    private static final int FINDING_BATCH_SIZE = 500;
+
+    private final AuditRunRepository auditRunRepository;
+    private final AuditFindingRepository auditFindingRepository;
+    private final AuditTrendService auditTrendService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public Long recordRun(User user, InfraAuditResponse response) {
+        Map<String, Integer> summary = response.getSummary() != null ? response.getSummary() : Map.of();
+
+        AuditRun run = new AuditRun();
+        run.setUser(user);
+        run.setAccountId(response.getAccountId());
+        run.setAuditId(response.getAuditId());
+        run.setStatus(response.getStatus());
+        run.setTotalCount(summary.getOrDefault("total", 0));
+        run.setPassCount(summary.getOrDefault("pass", 0));
+        run.setFailCount(summary.getOrDefault("fail", 0));
+        run.setWarnCount(summary.getOrDefault("warn", 0));
+        run.setErrorCount(summary.getOrDefault("error", 0));
+        run.setStartedAt(parseTimestamp(response.getStartedAt()));
+        run.setCompletedAt(parseTimestamp(response.getCompletedAt()));
+        AuditRun saved = auditRunRepository.save(run);
+
+        // 개별 결과는 IDENTITY 키라 Hibernate 배치가 불가하므로 JDBC 배치로 저장
+        List<CheckResult> results = response.getResults() != null ? response.getResults() : List.of();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO audit_findings (audit_run_id, check_id, resource_id, status, message, details) VALUES (?, ?, ?, ?, ?, ?)",
+            results,
+            FINDING_BATCH_SIZE,
+            (ps, result) -> {
+                ps.setLong(1, saved.getId());
+                ps.setString(2, result.getCheckId());
+                ps.setString(3, result.getResourceId() != null ? result.getResourceId() : "N/A");
+                ps.setString(4, result.getStatus() != null ? result.getStatus() : "ERROR");
+                ps.setString(5, result.getMessage());
+                ps.setString(6, toJson(result.getDetails()));
+            }
+        );
+
+        // 추이 집계도 같은 트랜잭션에서 갱신 (실행 이력과 집계가 어긋나지 않도록)
+        auditTrendService.rollup(user.getId(), saved.getId(), response);
+
+        log.info("점검 실행 저장: runId={}, accountId={}, findings={}", saved.getId(), saved.getAccountId(), results.size());
+        return saved.getId();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AuditRunResponse> getRuns(Long userId, String accountId, Pageable pageable) {
+        Page<AuditRun> runs = accountId == null || accountId.isBlank()
+            ? auditRunRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+            : auditRunRepository.findByUserIdAndAccountIdOrderByCreatedAtDesc(userId, accountId, pageable);
+        return runs.map(AuditRunResponse::from);
+    }
+
+    /**
+     * 두 실행의 결과를 같은 키 순서로 스트리밍하여 한 번에 병합 비교 (O(n), 메모리는 페이지 크기만큼만 사용)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuditDiffResponse diff(Long userId, Long baseRunId, Long targetRunId, DiffType type, int page, int size) {
+        auditRunRepository.findByIdAndUserId(baseRunId, userId)
+            .orElseThrow(() -> new RuntimeException("점검 실행 이력을 찾을 수 없습니다: " + baseRunId));
+        auditRunRepository.findByIdAndUserId(targetRunId, userId)
+            .orElseThrow(() -> new RuntimeException("점검 실행 이력을 찾을 수 없습니다: " + targetRunId));
+
+        Map<DiffType, Long> counts = new EnumMap<>(DiffType.class);
+        for (DiffType diffType : DiffType.values()) {
+            counts.put(diffType, 0L);
+        }
+
+        AuditDiffResponse response = new AuditDiffResponse();
+        response.setBaseRunId(baseRunId);
+        response.setTargetRunId(targetRunId);
+        response.setType(type != null ? type.name() : null);
+        response.setPage(page);
+        response.setSize(size);
+
+        long offset = (long) page * size;
+        long matched = 0;
+        try (Stream<FindingRow> baseStream = auditFindingRepository.streamOrderedByKey(baseRunId);
+             Stream<FindingRow> targetStream = auditFindingRepository.streamOrderedByKey(targetRunId)) {
+            PeekingIterator base = new PeekingIterator(baseStream.iterator());
+            PeekingIterator target = new PeekingIterator(targetStream.iterator());
+
+            while (base.hasNext() || target.hasNext()) {
+                int cmp;
+                if (!base.hasNext()) {
+                    cmp = 1;
+                } else if (!target.hasNext()) {
+                    cmp = -1;
+                } else {
+                    cmp = compareKey(base.peek(), target.peek());
+                }
+                List<FindingRow> baseGroup = cmp <= 0 ? takeGroup(base) : List.of();
+                List<FindingRow> targetGroup = cmp >= 0 ? takeGroup(target) : List.of();
+
+                AuditDiffResponse.Item item = toItem(baseGroup, targetGroup);
+                counts.merge(item.getType(), 1L, Long::sum);
+                if (type == null || type == item.getType()) {
+                    if (matched >= offset && response.getItems().size() < size) {
+                        response.getItems().add(item);
+                    }
+                    matched++;
+                }
+            }
+        }
+
+        response.setCounts(counts);
+        response.setTotalElements(matched);
+        return response;
+    }
+
+    private AuditDiffResponse.Item toItem(List<FindingRow> baseGroup, List<FindingRow> targetGroup) {
+        FindingRow keyRow = !targetGroup.isEmpty() ? targetGroup.get(0) : baseGroup.get(0);
+        String baseStatus = worstStatus(baseGroup);
+        String targetStatus = worstStatus(targetGroup);
+        boolean baseFailing = isFailing(baseStatus);
+        boolean targetFailing = isFailing(targetStatus);
+
+        AuditDiffResponse.Item item = new AuditDiffResponse.Item();
+        item.setCheckId(keyRow.getCheckId());
+        item.setResourceId(keyRow.getResourceId());
+        item.setBaseStatus(baseStatus);
+        item.setTargetStatus(targetStatus);
+        item.setMessage(keyRow.getMessage());
+        if (targetFailing && !baseFailing) {
+            item.setType(DiffType.NEW_FAILURE);
+        } else if (baseFailing && !targetFailing) {
+            item.setType(DiffType.RESOLVED);
+        } else if (baseFailing) {
+            item.setType(DiffType.STILL_FAILING);
+        } else {
+            item.setType(DiffType.UNCHANGED);
+        }
+        return item;
+    }
+
+    /**
+     * 같은 키의 연속된 결과 묶음을 꺼냄 (한 리소스에 결과가 여러 건인 점검 항목 대응)
+     */
+    private List<FindingRow> takeGroup(PeekingIterator iterator) {
+        List<FindingRow> group = new ArrayList<>();
+        FindingRow first = iterator.next();
+        group.add(first);
+        while (iterator.hasNext() && compareKey(first, iterator.peek()) == 0) {
+            group.add(iterator.next());
+        }
+        return group;
+    }
+
+    private static int compareKey(FindingRow a, FindingRow b) {
+        int cmp = a.getCheckId().compareTo(b.getCheckId());
+        return cmp != 0 ? cmp : a.getResourceId().compareTo(b.getResourceId());
+    }
+
+    /**
+     * 묶음 내 가장 심각한 상태 (FAIL > WARN > ERROR > PASS), 묶음이 비어 있으면 null
+     */
+    private static String worstStatus(List<FindingRow> group) {
+        String worst = null;
+        for (FindingRow row : group) {
+            if (worst == null || severity(row.getStatus()) > severity(worst)) {
+                worst = row.getStatus();
+            }
+        }
+        return worst;
+    }
+
+    private static int severity(String status) {
+        return switch (status.toUpperCase()) {
+            case "FAIL" -> 3;
+            case "WARN" -> 2;
+            case "ERROR" -> 1;
+            default -> 0;
+        };
+    }
+
+    private static boolean isFailing(String status) {
+        return status != null && severity(status) >= 2;
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static class PeekingIterator {
+        private final Iterator<FindingRow> delegate;
+        private FindingRow peeked;
+
+        PeekingIterator(Iterator<FindingRow> delegate) {
+            this.delegate = delegate;
+        }
+
+        boolean hasNext() {
+            return peeked != null || delegate.hasNext();
+        }
+
+        FindingRow peek() {
+            if (peeked == null) {
+                peeked = delegate.next();
+            }
+            return peeked;
+        }
+
+        FindingRow next() {
+            FindingRow row = peek();
+            peeked = null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.AuditScheduleRequest;
+import com.ksj.clouddoctorweb.dto.AuditScheduleResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
+import com.ksj.clouddoctorweb.entity.AuditSchedule;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.exception.AuditQueueFullException;
+import com.ksj.clouddoctorweb.exception.AuditUserLimitException;
+import com.ksj.clouddoctorweb.repository.AuditScheduleRepository;
+import com.ksj.clouddoctorweb.service.AuditJob;
+import com.ksj.clouddoctorweb.service.AuditScheduleService;
+import com.ksj.clouddoctorweb.service.AuditSchedulerService;
+import com.ksj.clouddoctorweb.service.InfraAuditService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 정기 인프라 점검 서비스 구현체
+ * 다음 실행 시각에는 일정별로 고정된 지터를 더해 같은 시각에 등록된 점검들이 한꺼번에 실행되지 않도록 분산
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AuditScheduleServiceImpl implements AuditScheduleService {
+
+    private static final Pattern ACCOUNT_ID_PATTERN = Pattern.compile("\\d{12}");
+    private static final String LEASE_KEY_PREFIX = "audit_schedule_lease:";
+
+    private final AuditScheduleRepository auditScheduleRepository;
+    private final AuditSchedulerService auditSchedulerService;
+    private final InfraAuditService infraAuditService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 임대 소유자 식별용 (노드별 고유 값)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${infraaudit.schedule.enabled:true}")
+    private boolean dispatchEnabled;
+
+    @Value("${infraaudit.schedule.jitter-window-minutes:60}")
+    private long jitterWindowMinutes;
+
+    @Value("${infraaudit.schedule.dispatch-batch-size:50}")
+    private int dispatchBatchSize;
+
+    @Value("${infraaudit.schedule.lease-minutes:10}")
+    private long leaseMinutes;
+
+    @Value("${infraaudit.schedule.max-schedules-per-user:20}")
+    private int maxSchedulesPerUser;
+
+    @Override
+    @Transactional
+    public AuditScheduleResponse createSchedule(User user, AuditScheduleRequest request) {
+        if (auditScheduleRepository.findByUserIdOrderByIdAsc(user.getId()).size() >= maxSchedulesPerUser) {
+            throw new RuntimeException("정기 점검은 최대 " + maxSchedulesPerUser + "개까지 등록할 수 있습니다");
+        }
+        AuditSchedule schedule = new AuditSchedule();
+        schedule.setUser(user);
+        apply(schedule, request);
+        AuditSchedule saved = auditScheduleRepository.save(schedule);
+        log.info("정기 점검 등록: user={}, accountId={}, nextRunAt={}", user.getUsername(), saved.getAccountId(), saved.getNextRunAt());
+        return AuditScheduleResponse.from(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditScheduleResponse> getSchedules(Long userId) {
+        return auditScheduleRepository.findByUserIdOrderByIdAsc(userId).stream()
+            .map(AuditScheduleResponse::from)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public AuditScheduleResponse updateSchedule(User user, Long scheduleId, AuditScheduleRequest request) {
+        AuditSchedule schedule = auditScheduleRepository.findByIdAndUserId(scheduleId, user.getId())
+            .orElseThrow(() -> new RuntimeException("정기 점검을 찾을 수 없습니다"));
+        apply(schedule, request);
+        return AuditScheduleResponse.from(auditScheduleRepository.save(schedule));
+    }
+
+    @Override
+    @Transactional
+    public void deleteSchedule(Long userId, Long scheduleId) {
+        AuditSchedule schedule = auditScheduleRepository.findByIdAndUserId(scheduleId, userId)
+            .orElseThrow(() -> new RuntimeException("정기 점검을 찾을 수 없습니다"));
+        auditScheduleRepository.delete(schedule);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${infraaudit.schedule.poll-interval-millis:60000}",
+               initialDelayString = "${infraaudit.schedule.poll-interval-millis:60000}")
+    public void dispatchDueSchedules() {
+        if (!dispatchEnabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 한 번에 등록하는 수를 제한하여 밀린 일정도 여러 주기에 나누어 등록
+        List<AuditSchedule> due = auditScheduleRepository.findDue(now, PageRequest.of(0, dispatchBatchSize));
+        for (AuditSchedule schedule : due) {
+            String leaseKey = LEASE_KEY_PREFIX + schedule.getId() + ":" + schedule.getNextRunAt();
+            Boolean acquired;
+            try {
+                acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, Duration.ofMinutes(leaseMinutes));
+            } catch (Exception e) {
+                // 임대 없이 등록하면 노드마다 중복 실행되므로 이번 주기는 건너뜀
+                log.warn("정기 점검 임대 획득 실패 (Redis): {}", e.getMessage());
+                return;
+            }
+            if (!Boolean.TRUE.equals(acquired)) {
+                continue;
+            }
+
+            try {
+                dispatch(schedule, now);
+            } catch (AuditUserLimitException e) {
+                // 사용자 한도는 이 사용자만의 문제이므로 이 일정만 미루고 다음 일정은 계속 등록
+                // (임대는 반납하지 않음: 미루기 전 실행 시각으로 다른 노드가 다시 등록하지 못하도록 만료까지 유지)
+                defer(schedule, now, e.getRetryAfterSeconds());
+            } catch (AuditQueueFullException e) {
+                // 전역 대기열이 가득 차면 임대를 반납하고 나머지 일정도 다음 주기에 다시 시도
+                redisTemplate.delete(leaseKey);
+                log.info("점검 대기열 포화로 정기 점검 등록 보류: scheduleId={}", schedule.getId());
+                return;
+            } catch (Exception e) {
+                log.error("정기 점검 등록 실패: scheduleId={}, error={}", schedule.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자 한도로 등록하지 못한 일정을 Retry-After 이후 (+ 무작위 지터) 로 미룸
+     * 매 주기마다 같은 일정이 다시 조회되어 등록을 시도하지 않도록 하고, 미뤄진 일정들이 한꺼번에 몰리지 않도록 분산
+     */
+    private void defer(AuditSchedule schedule, LocalDateTime now, long retryAfterSeconds) {
+        long delaySeconds = Math.max(retryAfterSeconds, 60);
+        long jitter = ThreadLocalRandom.current().nextLong(delaySeconds / 2 + 1);
+        schedule.setNextRunAt(now.plusSeconds(delaySeconds + jitter));
+        try {
+            auditScheduleRepository.save(schedule);
+            log.info("사용자 점검 한도로 정기 점검 연기: scheduleId={}, nextRunAt={}", schedule.getId(), schedule.getNextRunAt());
+        } catch (Exception e) {
+            log.warn("정기 점검 연기 실패: scheduleId={}, error={}", schedule.getId(), e.getMessage());
+        }
+    }
+
+    private void dispatch(AuditSchedule schedule, LocalDateTime now) {
+        User user = schedule.getUser();
+        InfraAuditRequest request = new InfraAuditRequest();
+        request.setAccountId(schedule.getAccountId());
+        request.setRoleName(schedule.getRoleName());
+        request.setExternalId("clouddoctor-" + user.getExternalId());
+        // 정기 점검은 항상 최신 상태를 점검
+        request.setUseCache(false);
+
+        AuditJob job = auditSchedulerService.submit(user, schedule.getAccountId(),
+            () -> infraAuditService.runAudit(user, request));
+
+        Long scheduleId = schedule.getId();
+        String jobId = job.getJobId();
+        schedule.setLastRunAt(now);
+        schedule.setLastJobId(jobId);
+        schedule.setLastStatus(AuditJob.Status.QUEUED.name());
+        schedule.setNextRunAt(nextRunAt(schedule, now));
+        auditScheduleRepository.save(schedule);
+        log.info("정기 점검 등록: scheduleId={}, accountId={}, jobId={}, nextRunAt={}",
+            scheduleId, schedule.getAccountId(), jobId, schedule.getNextRunAt());
+
+        job.getFuture().whenComplete((result, failure) -> {
+            try {
+                auditScheduleRepository.updateLastStatus(scheduleId, jobId,
+                    failure == null ? AuditJob.Status.COMPLETED.name() : AuditJob.Status.FAILED.name());
+            } catch (Exception e) {
+                log.warn("정기 점검 상태 갱신 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+            }
+        });
+    }
+
+    private void apply(AuditSchedule schedule, AuditScheduleRequest request) {
+        if (request.getAccountId() == null || !ACCOUNT_ID_PATTERN.matcher(request.getAccountId()).matches()) {
+            throw new RuntimeException("올바르지 않은 AWS 계정 ID입니다");
+        }
+        AuditSchedule.Frequency frequency;
+        try {
+            frequency = AuditSchedule.Frequency.valueOf(String.valueOf(request.getFrequency()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("점검 주기는 DAILY 또는 WEEKLY 만 가능합니다");
+        }
+        if (request.getHourOfDay() == null || request.getHourOfDay() < 0 || request.getHourOfDay() > 23) {
+            throw new RuntimeException("점검 시각은 0~23 사이여야 합니다");
+        }
+        if (frequency == AuditSchedule.Frequency.WEEKLY
+            && (request.getDayOfWeek() == null || request.getDayOfWeek() < 1 || request.getDayOfWeek() > 7)) {
+            throw new RuntimeException("매주 점검은 요일(1=월 ~ 7=일)을 지정해야 합니다");
+        }
+
+        schedule.setAccountId(request.getAccountId());
+        schedule.setRoleName(request.getRoleName() != null ? request.getRoleName() : "CloudDoctorAuditRole");
+        schedule.setFrequency(frequency);
+        schedule.setDayOfWeek(frequency == AuditSchedule.Frequency.WEEKLY ? request.getDayOfWeek() : null);
+        schedule.setHourOfDay(request.getHourOfDay());
+        schedule.setEnabled(request.getEnabled() == null || request.getEnabled());
+        schedule.setNextRunAt(nextRunAt(schedule, LocalDateTime.now()));
+    }
+
+    /**
+     * after 이후 첫 실행 시각 (정각 + 일정별 고정 지터)
+     */
+    private LocalDateTime nextRunAt(AuditSchedule schedule, LocalDateTime after) {
+        long jitterSeconds = jitterSeconds(schedule);
+        LocalDate date = after.toLocalDate().minusDays(1);
+        for (int i = 0; i <= 8; i++) {
+            LocalDate day = date.plusDays(i);
+            if (schedule.getFrequency() == AuditSchedule.Frequency.WEEKLY
+                && day.getDayOfWeek().getValue() != schedule.getDayOfWeek()) {
+                continue;
+            }
+            LocalDateTime candidate = day.atTime(schedule.getHourOfDay(), 0).plusSeconds(jitterSeconds);
+            if (candidate.isAfter(after)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("다음 실행 시각 계산 실패: scheduleId=" + schedule.getId());
+    }
+
+    /**
+     * 사용자 + 계정 기준의 결정적 지터 (재시작/재계산해도 같은 값, 일정들이 지터 구간에 고르게 분포)
+     */
+    private long jitterSeconds(AuditSchedule schedule) {
+        long windowSeconds = Math.max(jitterWindowMinutes, 0) * 60;
+        if (windowSeconds == 0) {
+            return 0;
+        }
+        long hash = Objects.hash(schedule.getUser().getId(), schedule.getAccountId()) * 0x9E3779B97F4A7C15L;
+        return Math.floorMod(hash ^ (hash >>> 32), windowSeconds);
+    }
+}
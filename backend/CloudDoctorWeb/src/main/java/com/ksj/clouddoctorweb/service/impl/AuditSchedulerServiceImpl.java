@@ -0,0 +1,422 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.exception.AuditQueueFullException;
+import com.ksj.clouddoctorweb.exception.AuditRetryLaterException;
+import com.ksj.clouddoctorweb.exception.AuditUserLimitException;
+import com.ksj.clouddoctorweb.service.AuditJob;
+import com.ksj.clouddoctorweb.service.AuditSchedulerService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인프라 점검 스케줄러 구현체
+ * - 전역 동시 실행 상한 (max-concurrent)
+ * - 회사 단위 → 사용자 단위 2단계 라운드로빈으로 공정 분배
+ * - 대기열/사용자 한도 초과 시 즉시 429 (Retry-After 포함)
+ * - 묶음 작업(다중 계정 점검)은 대기열/공정 분배/실행 슬롯에서 1건으로 취급하고,
+ *   실행되면 하위 작업을 가상 스레드로 묶음별 상한(maxParallel)까지 동시에 실행
+ *   (infraaudit 동시 호출 총량은 InfraAuditClient 벌크헤드가 제한)
+ */
+@Service
+@Log4j2
+public class AuditSchedulerServiceImpl implements AuditSchedulerService {
+
+    @Value("${infraaudit.scheduler.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${infraaudit.scheduler.max-queue-size:100}")
+    private int maxQueueSize;
+
+    @Value("${infraaudit.scheduler.max-jobs-per-user:2}")
+    private int maxJobsPerUser;
+
+    @Value("${infraaudit.scheduler.job-retention-minutes:30}")
+    private long jobRetentionMinutes;
+
+    private final Object lock = new Object();
+    private final Map<String, AuditJob> jobs = new ConcurrentHashMap<>();
+
+    // 대기열: 회사 라운드로빈 순서 + 회사별 사용자 대기열 (lock 으로 보호)
+    private final ArrayDeque<String> companyRing = new ArrayDeque<>();
+    private final Map<String, CompanyQueue> companyQueues = new HashMap<>();
+    private final Map<String, Integer> activeJobsByUser = new HashMap<>();
+    // 묶음 작업 ID → 묶음
+    private final Map<String, JobGroup> groupsByJobId = new HashMap<>();
+    private int queuedCount = 0;
+    private int runningCount = 0;
+
+    // 최근 점검 소요 시간 이동 평균 (Retry-After 추정용)
+    private volatile double avgDurationSeconds = 30.0;
+
+    private ExecutorService executor;
+    // 묶음 하위 작업 (대부분 infraaudit 응답 대기이므로 가상 스레드)
+    private ExecutorService childExecutor;
+    // 잠시 후 다시 실행할 하위 작업 예약
+    private ScheduledExecutorService retryExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrent, runnable -> {
+            Thread thread = new Thread(runnable, "audit-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        childExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("audit-child-", 1).factory());
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("점검 스케줄러 시작: maxConcurrent={}, maxQueueSize={}, maxJobsPerUser={}",
+            maxConcurrent, maxQueueSize, maxJobsPerUser);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryExecutor.shutdownNow();
+        childExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Override
+    public AuditJob submit(User user, String accountId, Callable<Object> task) {
+        purgeFinishedJobs();
+
+        AuditJob job = new AuditJob(user.getUsername(), companyKeyOf(user), accountId, task);
+        synchronized (lock) {
+            if (queuedCount >= maxQueueSize) {
+                log.warn("점검 대기열 포화: queued={}, user={}", queuedCount, user.getUsername());
+                throw new AuditQueueFullException(
+                    "점검 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+            }
+            int active = activeJobsByUser.getOrDefault(job.getUsername(), 0);
+            if (active >= maxJobsPerUser) {
+                log.warn("사용자 점검 한도 초과: user={}, active={}", job.getUsername(), active);
+                throw new AuditUserLimitException(
+                    "이미 진행 중인 점검이 있습니다. 완료 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+            }
+            activeJobsByUser.put(job.getUsername(), active + 1);
+            enqueue(job);
+            jobs.put(job.getJobId(), job);
+        }
+
+        log.info("점검 작업 등록: jobId={}, user={}, company={}, accountId={}",
+            job.getJobId(), job.getUsername(), job.getCompanyKey(), accountId);
+        dispatch();
+        return job;
+    }
+
+    @Override
+    public AuditJob submitGroup(User user, String label, Object progress, Map<String, Callable<Object>> tasks,
+                                int maxParallel) {
+        purgeFinishedJobs();
+
+        String companyKey = companyKeyOf(user);
+        AuditJob parent = new AuditJob(user.getUsername(), companyKey, label, null);
+        // 첫 하위 작업이 실행되기 전에 진행 상태를 붙여 둠
+        parent.attachProgress(progress);
+        JobGroup group = new JobGroup(parent, Math.max(1, maxParallel));
+        tasks.forEach((accountId, task) -> group.pending.addLast(new AuditJob(user.getUsername(), companyKey, accountId, task)));
+        group.unfinished = group.pending.size();
+        if (group.unfinished == 0) {
+            throw new IllegalArgumentException("하위 작업이 없습니다");
+        }
+
+        synchronized (lock) {
+            if (queuedCount >= maxQueueSize) {
+                log.warn("점검 대기열 포화: queued={}, user={}", queuedCount, user.getUsername());
+                throw new AuditQueueFullException(
+                    "점검 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+            }
+            int active = activeJobsByUser.getOrDefault(parent.getUsername(), 0);
+            if (active >= maxJobsPerUser) {
+                log.warn("사용자 점검 한도 초과: user={}, active={}", parent.getUsername(), active);
+                throw new AuditUserLimitException(
+                    "이미 진행 중인 점검이 있습니다. 완료 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+            }
+            activeJobsByUser.put(parent.getUsername(), active + 1);
+            groupsByJobId.put(parent.getJobId(), group);
+            enqueue(parent);
+            jobs.put(parent.getJobId(), parent);
+        }
+
+        log.info("묶음 점검 작업 등록: jobId={}, user={}, company={}, tasks={}, maxParallel={}",
+            parent.getJobId(), parent.getUsername(), companyKey, group.unfinished, group.maxParallel);
+        dispatch();
+        return parent;
+    }
+
+    @Override
+    public AuditJob getJob(String jobId, String username) {
+        AuditJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("점검 작업을 찾을 수 없습니다");
+        }
+        if (!job.getUsername().equals(username)) {
+            throw new RuntimeException("권한이 없습니다");
+        }
+        return job;
+    }
+
+    @Override
+    public int getQueuePosition(String jobId) {
+        AuditJob job = jobs.get(jobId);
+        if (job == null || job.getStatus() != AuditJob.Status.QUEUED) {
+            return 0;
+        }
+        synchronized (lock) {
+            return simulatePosition(job);
+        }
+    }
+
+    /**
+     * 실행 슬롯이 남아 있는 만큼 공정 순서대로 작업을 꺼내 실행
+     */
+    private void dispatch() {
+        List<AuditJob> toStart = new ArrayList<>();
+        synchronized (lock) {
+            while (runningCount < maxConcurrent && queuedCount > 0) {
+                AuditJob next = pollNext();
+                next.markRunning();
+                runningCount++;
+                JobGroup group = groupsByJobId.get(next.getJobId());
+                if (group != null) {
+                    // 묶음은 실행 슬롯 1개를 차지한 채 하위 작업을 가상 스레드로 실행
+                    log.info("묶음 점검 작업 실행: jobId={}, user={}", next.getJobId(), next.getUsername());
+                    fillGroup(group);
+                } else {
+                    toStart.add(next);
+                }
+            }
+        }
+        for (AuditJob job : toStart) {
+            executor.execute(() -> run(job));
+        }
+    }
+
+    private void run(AuditJob job) {
+        log.info("점검 작업 실행: jobId={}, user={}", job.getJobId(), job.getUsername());
+        try {
+            job.complete(job.getTask().call());
+        } catch (Exception e) {
+            log.error("점검 작업 실패: jobId={}, error={}", job.getJobId(), e.getMessage());
+            job.fail(e);
+        } finally {
+            synchronized (lock) {
+                releaseSlot(job);
+            }
+            dispatch();
+        }
+    }
+
+    /**
+     * 묶음 하위 작업 실행 (재시도 요청이면 스레드를 반납하고 지연 후 다시 넣음)
+     */
+    private void runChild(JobGroup group, AuditJob child) {
+        AuditRetryLaterException retry = null;
+        child.markRunning();
+        try {
+            child.complete(child.getTask().call());
+        } catch (AuditRetryLaterException e) {
+            retry = e;
+        } catch (Exception e) {
+            log.warn("묶음 하위 작업 실패: jobId={}, accountId={}, error={}",
+                group.parent.getJobId(), child.getAccountId(), e.getMessage());
+            child.fail(e);
+        }
+
+        boolean finished = false;
+        synchronized (lock) {
+            group.running--;
+            if (retry == null) {
+                group.unfinished--;
+            }
+            if (group.unfinished == 0) {
+                groupsByJobId.remove(group.parent.getJobId());
+                releaseSlot(group.parent);
+                finished = true;
+            } else {
+                fillGroup(group);
+            }
+        }
+
+        if (retry != null) {
+            log.info("묶음 하위 작업 재시도 예약: jobId={}, accountId={}, delayMillis={}",
+                group.parent.getJobId(), child.getAccountId(), retry.getDelayMillis());
+            retryExecutor.schedule(() -> {
+                synchronized (lock) {
+                    group.pending.addFirst(child);
+                    fillGroup(group);
+                }
+            }, retry.getDelayMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (finished) {
+            log.info("묶음 점검 작업 완료: jobId={}, user={}", group.parent.getJobId(), group.parent.getUsername());
+            group.parent.complete(group.parent.getProgress());
+            dispatch();
+        }
+    }
+
+    /**
+     * 묶음별 상한까지 대기 중인 하위 작업 실행 (lock 안에서 호출)
+     */
+    private void fillGroup(JobGroup group) {
+        while (group.running < group.maxParallel && !group.pending.isEmpty()) {
+            AuditJob child = group.pending.pollFirst();
+            group.running++;
+            childExecutor.execute(() -> runChild(group, child));
+        }
+    }
+
+    /**
+     * 실행 슬롯과 사용자 한도 반환 (lock 안에서 호출)
+     */
+    private void releaseSlot(AuditJob job) {
+        runningCount--;
+        double seconds = Duration.between(job.getStartedAt(), LocalDateTime.now()).toMillis() / 1000.0;
+        avgDurationSeconds = avgDurationSeconds * 0.8 + seconds * 0.2;
+        activeJobsByUser.computeIfPresent(job.getUsername(), (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void enqueue(AuditJob job) {
+        CompanyQueue companyQueue = companyQueues.get(job.getCompanyKey());
+        if (companyQueue == null) {
+            companyQueue = new CompanyQueue();
+            companyQueues.put(job.getCompanyKey(), companyQueue);
+            companyRing.addLast(job.getCompanyKey());
+        }
+        ArrayDeque<AuditJob> userJobs = companyQueue.userJobs.get(job.getUsername());
+        if (userJobs == null) {
+            userJobs = new ArrayDeque<>();
+            companyQueue.userJobs.put(job.getUsername(), userJobs);
+            companyQueue.userRing.addLast(job.getUsername());
+        }
+        userJobs.addLast(job);
+        queuedCount++;
+    }
+
+    /**
+     * 회사 순서 → 회사 내 사용자 순서로 한 건씩 꺼냄
+     */
+    private AuditJob pollNext() {
+        String companyKey = companyRing.pollFirst();
+        CompanyQueue companyQueue = companyQueues.get(companyKey);
+
+        String username = companyQueue.userRing.pollFirst();
+        ArrayDeque<AuditJob> userJobs = companyQueue.userJobs.get(username);
+        AuditJob job = userJobs.pollFirst();
+
+        if (userJobs.isEmpty()) {
+            companyQueue.userJobs.remove(username);
+        } else {
+            companyQueue.userRing.addLast(username);
+        }
+        if (companyQueue.userRing.isEmpty()) {
+            companyQueues.remove(companyKey);
+        } else {
+            companyRing.addLast(companyKey);
+        }
+        queuedCount--;
+        return job;
+    }
+
+    /**
+     * pollNext 와 같은 순서로 대기열을 모의 순회하여 순번 계산 (대기열 길이에 비례)
+     */
+    private int simulatePosition(AuditJob target) {
+        ArrayDeque<String> companies = new ArrayDeque<>(companyRing);
+        Map<String, ArrayDeque<String>> userRings = new HashMap<>();
+        Map<String, Map<String, Iterator<AuditJob>>> iterators = new HashMap<>();
+        for (String companyKey : companies) {
+            CompanyQueue companyQueue = companyQueues.get(companyKey);
+            userRings.put(companyKey, new ArrayDeque<>(companyQueue.userRing));
+            Map<String, Iterator<AuditJob>> userIterators = new HashMap<>();
+            companyQueue.userJobs.forEach((username, userJobs) -> userIterators.put(username, userJobs.iterator()));
+            iterators.put(companyKey, userIterators);
+        }
+
+        int position = 0;
+        while (!companies.isEmpty()) {
+            String companyKey = companies.pollFirst();
+            ArrayDeque<String> users = userRings.get(companyKey);
+            String username = users.pollFirst();
+            Iterator<AuditJob> userJobs = iterators.get(companyKey).get(username);
+
+            position++;
+            if (userJobs.next() == target) {
+                return position;
+            }
+            if (userJobs.hasNext()) {
+                users.addLast(username);
+            }
+            if (!users.isEmpty()) {
+                companies.addLast(companyKey);
+            }
+        }
+        return 0;
+    }
+
+    private long estimateRetryAfterSeconds() {
+        double waves = Math.ceil((queuedCount + 1) / (double) maxConcurrent);
+        return Math.max(1, (long) Math.ceil(waves * avgDurationSeconds));
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getCompletedAt().isBefore(threshold));
+    }
+
+    /**
+     * 회사 구분 키 (회사 미입력 사용자는 개인 단위로 취급)
+     */
+    private static String companyKeyOf(User user) {
+        if (user.getCompany() == null || user.getCompany().isBlank()) {
+            return "user:" + user.getUsername();
+        }
+        return "company:" + user.getCompany().trim().toLowerCase();
+    }
+
+    /**
+     * 묶음 작업과 하위 작업 실행 상태 (lock 으로 보호)
+     */
+    private static class JobGroup {
+        private final AuditJob parent;
+        private final int maxParallel;
+        // 아직 실행하지 않은 하위 작업 (재시도 대기가 끝난 작업은 맨 앞)
+        private final ArrayDeque<AuditJob> pending = new ArrayDeque<>();
+        private int running;
+        private int unfinished;
+
+        private JobGroup(AuditJob parent, int maxParallel) {
+            this.parent = parent;
+            this.maxParallel = maxParallel;
+        }
+    }
+
+    private static class CompanyQueue {
+        private final ArrayDeque<String> userRing = new ArrayDeque<>();
+        private final Map<String, ArrayDeque<AuditJob>> userJobs = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.AuditTrendPoint;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse.CheckResult;
+import com.ksj.clouddoctorweb.service.AuditTrendService;
+import com.ksj.clouddoctorweb.util.AuditCheckIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 점검 추이 집계 서비스 구현체
+ * 점검 1회당 점검 항목 수만큼의 행만 upsert 하므로 원본 결과를 다시 읽지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AuditTrendServiceImpl implements AuditTrendService {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO audit_check_daily_rollups " +
+        "(user_id, account_id, check_id, service, day, pass_count, fail_count, warn_count, error_count, run_count, last_run_id, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (user_id, account_id, check_id, day) DO UPDATE SET " +
+        "pass_count = EXCLUDED.pass_count, fail_count = EXCLUDED.fail_count, " +
+        "warn_count = EXCLUDED.warn_count, error_count = EXCLUDED.error_count, " +
+        "run_count = audit_check_daily_rollups.run_count + 1, " +
+        "last_run_id = EXCLUDED.last_run_id, updated_at = CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void rollup(Long userId, Long runId, InfraAuditResponse response) {
+        if (response.getResults() == null || response.getResults().isEmpty()) {
+            return;
+        }
+        // 점검 항목별 상태 건수 (pass, fail, warn, error)
+        Map<String, int[]> countsByCheck = new TreeMap<>();
+        for (CheckResult result : response.getResults()) {
+            if (result.getCheckId() == null || result.getStatus() == null) {
+                continue;
+            }
+            int[] counts = countsByCheck.computeIfAbsent(result.getCheckId(), key -> new int[4]);
+            switch (result.getStatus().toUpperCase()) {
+                case "PASS" -> counts[0]++;
+                case "FAIL" -> counts[1]++;
+                case "WARN" -> counts[2]++;
+                default -> counts[3]++;
+            }
+        }
+
+        Date day = Date.valueOf(LocalDate.now());
+        List<Object[]> rows = new ArrayList<>(countsByCheck.size());
+        countsByCheck.forEach((checkId, counts) -> rows.add(new Object[]{
+            userId, response.getAccountId(), checkId, AuditCheckIds.serviceOf(checkId), day,
+            counts[0], counts[1], counts[2], counts[3], runId
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        log.debug("점검 추이 집계 반영: runId={}, checks={}", runId, rows.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditTrendPoint> getTrends(Long userId, String accountId, int days, GroupBy groupBy) {
+        String keyColumn = switch (groupBy) {
+            case SERVICE -> "service";
+            case CHECK -> "check_id";
+            case ACCOUNT -> "account_id";
+        };
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        params.add(Date.valueOf(LocalDate.now().minusDays(days - 1L)));
+        StringBuilder sql = new StringBuilder()
+            .append("SELECT day, ").append(keyColumn).append(" AS group_key, ")
+            .append("COUNT(*) FILTER (WHERE fail_count + warn_count > 0) AS failing_checks, ")
+            .append("SUM(pass_count) AS pass_count, SUM(fail_count) AS fail_count, ")
+            .append("SUM(warn_count) AS warn_count, SUM(error_count) AS error_count ")
+            .append("FROM audit_check_daily_rollups WHERE user_id = ? AND day >= ? ");
+        if (accountId != null && !accountId.isBlank()) {
+            sql.append("AND account_id = ? ");
+            params.add(accountId);
+        }
+        sql.append("GROUP BY day, ").append(keyColumn).append(" ORDER BY day, group_key");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            AuditTrendPoint point = new AuditTrendPoint();
+            point.setDay(rs.getDate("day").toLocalDate());
+            point.setKey(rs.getString("group_key"));
+            point.setFailingChecks(rs.getInt("failing_checks"));
+            point.setPassCount(rs.getInt("pass_count"));
+            point.setFailCount(rs.getInt("fail_count"));
+            point.setWarnCount(rs.getInt("warn_count"));
+            point.setErrorCount(rs.getInt("error_count"));
+            return point;
+        }, params.toArray());
+    }
+}
@@ -7,6 +7,7 @@ import com.ksj.clouddoctorweb.entity.User;
 import com.ksj.clouddoctorweb.repository.UserRepository;
 import com.ksj.clouddoctorweb.service.AuthService;
 import com.ksj.clouddoctorweb.service.JwtService;
+import com.ksj.clouddoctorweb.service.UserActivityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,6 +25,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final UserActivityService userActivityService;
     
     @Override
     public User register(RegisterRequest registerRequest) {
@@ -65,6 +67,7 @@ public class AuthServiceImpl implements AuthService {
         
         String accessToken = jwtService.generateAccessToken(user, userAgent);
         String refreshToken = jwtService.generateRefreshToken(user, userAgent);
+        userActivityService.recordLogin(user.getId());
         
         log.info("로그인 성공: {} (Role: {})", user.getUsername(), user.getRole());
         TokenResponse tokenResponse = new TokenResponse(accessToken, refreshToken);
@@ -0,0 +1,122 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.InfraAuditBatchRequest;
+import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.exception.AuditRetryLaterException;
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
+import com.ksj.clouddoctorweb.service.AuditJob;
+import com.ksj.clouddoctorweb.service.AuditSchedulerService;
+import com.ksj.clouddoctorweb.service.BatchAuditProgress;
+import com.ksj.clouddoctorweb.service.BatchAuditService;
+import com.ksj.clouddoctorweb.service.InfraAuditService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 다중 계정 인프라 점검 서비스 구현체
+ * 다중 계정 점검 1건을 스케줄러 묶음 작업으로 등록 (대기열/공정 분배/실행 슬롯은 단일 점검과 같이 1건)
+ * 계정별 점검은 대부분 infraaudit 응답 대기이므로 가상 스레드로 max-parallel 개씩 동시에 실행
+ * (전체 소요 시간 ≈ 가장 느린 계정의 점검 시간, infraaudit 동시 호출 총량은 InfraAuditClient 벌크헤드가 제한)
+ * 벌크헤드가 가득 차면 스레드를 붙잡고 기다리지 않고 하위 작업을 잠시 후 다시 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class BatchAuditServiceImpl implements BatchAuditService {
+
+    private static final Pattern ACCOUNT_ID_PATTERN = Pattern.compile("\\d{12}");
+
+    private final AuditSchedulerService auditSchedulerService;
+    private final InfraAuditService infraAuditService;
+
+    @Value("${infraaudit.batch.max-accounts:100}")
+    private int maxAccounts;
+
+    @Value("${infraaudit.batch.max-parallel:8}")
+    private int maxParallel;
+
+    @Value("${infraaudit.batch.bulkhead-retries:3}")
+    private int bulkheadRetries;
+
+    @Override
+    public AuditJob submitBatch(User user, InfraAuditBatchRequest request) {
+        List<String> accountIds = request.getAccountIds() == null ? List.of()
+            : new ArrayList<>(new LinkedHashSet<>(request.getAccountIds().stream()
+                .filter(accountId -> accountId != null && !accountId.isBlank())
+                .map(String::trim)
+                .toList()));
+        if (accountIds.isEmpty()) {
+            throw new RuntimeException("점검할 계정을 입력해주세요");
+        }
+        if (accountIds.size() > maxAccounts) {
+            throw new RuntimeException("한 번에 점검할 수 있는 계정은 최대 " + maxAccounts + "개입니다");
+        }
+        for (String accountId : accountIds) {
+            if (!ACCOUNT_ID_PATTERN.matcher(accountId).matches()) {
+                throw new RuntimeException("올바르지 않은 AWS 계정 ID입니다: " + accountId);
+            }
+        }
+
+        BatchAuditProgress progress = new BatchAuditProgress(accountIds);
+        Map<String, Callable<Object>> tasks = new LinkedHashMap<>();
+        for (String accountId : accountIds) {
+            AtomicInteger attempts = new AtomicInteger();
+            tasks.put(accountId, () -> runAccount(user, request, accountId, progress, attempts));
+        }
+        AuditJob job = auditSchedulerService.submitGroup(user, "batch:" + accountIds.size(), progress, tasks, maxParallel);
+        job.getFuture().thenRun(() -> log.info("다중 계정 점검 완료: user={}, total={}, completed={}, failed={}",
+            user.getUsername(), progress.getTotal(), progress.getCompleted(), progress.getFailed()));
+        log.info("다중 계정 점검 등록: user={}, accounts={}, jobId={}", user.getUsername(), accountIds.size(), job.getJobId());
+        return job;
+    }
+
+    /**
+     * 계정 1개 점검 작업 (묶음 하위 작업 가상 스레드에서 실행, 결과/실패를 진행 상태에 기록)
+     * infraaudit 동시 호출 슬롯이 부족하면 bulkhead-retries 회까지 AuditRetryLaterException 으로 재실행 요청
+     */
+    private Object runAccount(User user, InfraAuditBatchRequest request, String accountId,
+                              BatchAuditProgress progress, AtomicInteger attempts) throws Exception {
+        progress.markRunning(accountId);
+        try {
+            InfraAuditResponse response = infraAuditService.runAudit(user, toAccountRequest(request, accountId));
+            progress.markCompleted(accountId, response);
+            return response;
+        } catch (InfraAuditException e) {
+            int attempt = attempts.getAndIncrement();
+            if (e.getReason() == InfraAuditException.Reason.BULKHEAD_FULL && attempt < bulkheadRetries) {
+                progress.markPending(accountId);
+                throw new AuditRetryLaterException("infraaudit bulkhead full", 1000L * (attempt + 1), e);
+            }
+            log.warn("계정 점검 실패: accountId={}, error={}", accountId, e.getMessage());
+            progress.markFailed(accountId, e);
+            throw e;
+        } catch (Exception e) {
+            log.warn("계정 점검 실패: accountId={}, error={}", accountId, e.getMessage());
+            progress.markFailed(accountId, e);
+            throw e;
+        }
+    }
+
+    private static InfraAuditRequest toAccountRequest(InfraAuditBatchRequest batch, String accountId) {
+        InfraAuditRequest request = new InfraAuditRequest();
+        request.setAccountId(accountId);
+        request.setRoleName(batch.getRoleName());
+        request.setExternalId(batch.getExternalId());
+        request.setChecks(batch.getChecks());
+        request.setUseCache(batch.getUseCache());
+        return request;
+    }
+}
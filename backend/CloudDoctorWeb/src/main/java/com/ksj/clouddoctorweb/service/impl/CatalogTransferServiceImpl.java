@@ -0,0 +1,416 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.CatalogBundleRecord;
+import com.ksj.clouddoctorweb.dto.CatalogBundleRecord.Type;
+import com.ksj.clouddoctorweb.dto.CatalogImportReport;
+import com.ksj.clouddoctorweb.dto.CatalogImportReport.Row;
+import com.ksj.clouddoctorweb.dto.CatalogImportReport.Status;
+import com.ksj.clouddoctorweb.dto.GuidelineLinkRequest;
+import com.ksj.clouddoctorweb.service.CatalogTransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카탈로그 일괄 가져오기/내보내기 서비스 구현체
+ * 가져오기: 레코드를 하나씩 읽으며 참조를 메모리 맵으로 해석하고, ID 는 시퀀스에서 미리 받아 두어
+ * 아직 DB 에 쓰지 않은 레코드도 바로 참조할 수 있게 한 뒤 테이블 순서(서비스 → 가이드라인 → 링크 → 체크리스트)대로 배치 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class CatalogTransferServiceImpl implements CatalogTransferService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int FETCH_SIZE = 1000;
+    private static final int FLUSH_EVERY_RECORDS = 1000;
+    // guidelines.importance_level CHECK 제약과 동일
+    private static final Set<String> IMPORTANCE_LEVELS = Set.of("확인요망", "중요", "긴급");
+
+    // 컬럼 길이 (service_lists.name / display_name, guidelines.title, checklists.title, guideline_links.title)
+    private static final int SERVICE_NAME_MAX = 100;
+    private static final int TITLE_MAX = 200;
+
+    private static final String INSERT_SERVICE_SQL =
+        "INSERT INTO service_lists (id, cloud_provider_id, name, display_name, service_real_case_count, is_active) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GUIDELINE_SQL =
+        "INSERT INTO guidelines (id, title, cloud_provider_id, service_list_id, importance_level, why_dangerous, what_happens, " +
+        "check_standard, solution_text, side_effects, note, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LINK_SQL =
+        "INSERT INTO guideline_links (guideline_id, url, title) VALUES (?, ?, ?)";
+    private static final String INSERT_CHECKLIST_SQL =
+        "INSERT INTO checklists (id, cloud_provider_id, service_list_id, guideline_id, title, is_active, created_by) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXPORT_SERVICES_SQL =
+        "SELECT p.name AS provider, s.name, s.display_name, s.service_real_case_count, s.is_active " +
+        "FROM service_lists s JOIN cloud_providers p ON p.id = s.cloud_provider_id ORDER BY s.id";
+    private static final String EXPORT_GUIDELINES_SQL =
+        "SELECT g.id, p.name AS provider, s.name AS service, g.title, g.importance_level, g.why_dangerous, g.what_happens, " +
+        "g.check_standard, g.solution_text, g.side_effects, g.note, l.title AS link_title, l.url AS link_url " +
+        "FROM guidelines g " +
+        "JOIN cloud_providers p ON p.id = g.cloud_provider_id " +
+        "JOIN service_lists s ON s.id = g.service_list_id " +
+        "LEFT JOIN guideline_links l ON l.guideline_id = g.id " +
+        "ORDER BY g.id, l.id";
+    private static final String EXPORT_CHECKLISTS_SQL =
+        "SELECT c.guideline_id, c.title, c.is_active FROM checklists c ORDER BY c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public CatalogImportReport importBundle(Long adminId, InputStream in) {
+        ImportSession session = new ImportSession(adminId);
+        CatalogImportReport report = new CatalogImportReport();
+
+        int index = 0;
+        try (MappingIterator<CatalogBundleRecord> records = objectMapper.readerFor(CatalogBundleRecord.class).readValues(in)) {
+            while (records.hasNextValue()) {
+                report.add(session.apply(index++, records.nextValue()));
+                if (session.pendingRows() >= BATCH_SIZE) {
+                    session.flush();
+                }
+            }
+        } catch (IOException e) {
+            // 트랜잭션 전체 롤백 (일부만 들어간 카탈로그가 남지 않도록)
+            throw new RuntimeException("카탈로그 번들을 읽을 수 없습니다 (레코드 " + index + "): " + e.getMessage(), e);
+        }
+        session.flush();
+
+        log.info("카탈로그 가져오기 완료: total={}, counts={}", report.getTotal(), report.getCounts());
+        return report;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBundle(OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] count = {0};
+
+        stream(EXPORT_SERVICES_SQL, rs -> {
+            CatalogBundleRecord record = new CatalogBundleRecord();
+            record.setType(Type.SERVICE);
+            record.setProvider(rs.getString("provider"));
+            record.setName(rs.getString("name"));
+            record.setDisplayName(rs.getString("display_name"));
+            record.setServiceRealCaseCount(rs.getInt("service_real_case_count"));
+            record.setIsActive(rs.getBoolean("is_active"));
+            write(writer, record, ++count[0]);
+        });
+
+        // 가이드라인 + 링크는 가이드라인 ID 순으로 정렬된 한 번의 조회에서 ID 가 바뀔 때마다 내보냄
+        CatalogBundleRecord[] current = {null};
+        stream(EXPORT_GUIDELINES_SQL, rs -> {
+            String ref = String.valueOf(rs.getLong("id"));
+            if (current[0] == null || !current[0].getRef().equals(ref)) {
+                if (current[0] != null) {
+                    write(writer, current[0], ++count[0]);
+                }
+                CatalogBundleRecord record = new CatalogBundleRecord();
+                record.setType(Type.GUIDELINE);
+                record.setRef(ref);
+                record.setProvider(rs.getString("provider"));
+                record.setService(rs.getString("service"));
+                record.setTitle(rs.getString("title"));
+                record.setImportanceLevel(rs.getString("importance_level"));
+                record.setWhyDangerous(rs.getString("why_dangerous"));
+                record.setWhatHappens(rs.getString("what_happens"));
+                record.setCheckStandard(rs.getString("check_standard"));
+                record.setSolutionText(rs.getString("solution_text"));
+                record.setSideEffects(rs.getString("side_effects"));
+                record.setNote(rs.getString("note"));
+                record.setLinks(new ArrayList<>());
+                current[0] = record;
+            }
+            String url = rs.getString("link_url");
+            if (url != null) {
+                current[0].getLinks().add(new GuidelineLinkRequest(rs.getString("link_title"), url));
+            }
+        });
+        if (current[0] != null) {
+            write(writer, current[0], ++count[0]);
+        }
+
+        stream(EXPORT_CHECKLISTS_SQL, rs -> {
+            CatalogBundleRecord record = new CatalogBundleRecord();
+            record.setType(Type.CHECKLIST);
+            record.setGuideline(String.valueOf(rs.getLong("guideline_id")));
+            record.setTitle(rs.getString("title"));
+            record.setIsActive(rs.getBoolean("is_active"));
+            write(writer, record, ++count[0]);
+        });
+
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("카탈로그 내보내기 완료: records={}", count[0]);
+        return count[0];
+    }
+
+    private void write(Writer writer, CatalogBundleRecord record, long count) {
+        try {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.write('\n');
+            if (count % FLUSH_EVERY_RECORDS == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 컬럼 길이 초과 여부 (저장 시 잘라 내는 앞뒤 공백 제외, 한 건 때문에 전체 가져오기가 롤백되지 않도록 항목 단위로 검사)
+     */
+    private static boolean tooLong(String value, int max) {
+        return value != null && value.trim().length() > max;
+    }
+
+    /**
+     * 가져오기 1회 동안의 참조 맵과 배치 대기열
+     * 카탈로그는 수백 건 규모이므로 기존 서비스/가이드라인/체크리스트의 이름 키는 시작 시 한 번에 읽어 둠
+     * 체크리스트의 가이드라인 ref 는 이 번들의 GUIDELINE 레코드로만 해석 (DB ID 와 우연히 같은 ref 가 엉뚱한 가이드라인에 붙지 않도록)
+     */
+    private class ImportSession {
+
+        private final Long adminId;
+        private final Map<String, Long> providerIds = new HashMap<>();
+        private final Map<String, Long> serviceIds = new HashMap<>();
+        private final Map<String, GuidelineRef> guidelinesByKey = new HashMap<>();
+        private final Map<String, GuidelineRef> guidelinesByRef = new HashMap<>();
+        private final Set<String> checklistKeys = new HashSet<>();
+        private final Map<String, Deque<Long>> idPools = new HashMap<>();
+
+        private final List<Object[]> pendingServices = new ArrayList<>();
+        private final List<Object[]> pendingGuidelines = new ArrayList<>();
+        private final List<Object[]> pendingLinks = new ArrayList<>();
+        private final List<Object[]> pendingChecklists = new ArrayList<>();
+
+        ImportSession(Long adminId) {
+            this.adminId = adminId;
+            jdbcTemplate.query("SELECT id, name FROM cloud_providers",
+                (RowCallbackHandler) rs -> providerIds.put(normalize(rs.getString("name")), rs.getLong("id")));
+            jdbcTemplate.query("SELECT id, cloud_provider_id, name FROM service_lists",
+                (RowCallbackHandler) rs -> serviceIds.put(serviceKey(rs.getLong("cloud_provider_id"), rs.getString("name")), rs.getLong("id")));
+            jdbcTemplate.query("SELECT id, cloud_provider_id, service_list_id, title FROM guidelines", (RowCallbackHandler) rs -> {
+                GuidelineRef ref = new GuidelineRef(rs.getLong("id"), rs.getLong("cloud_provider_id"), rs.getLong("service_list_id"));
+                guidelinesByKey.put(guidelineKey(ref.serviceListId(), rs.getString("title")), ref);
+            });
+            jdbcTemplate.query("SELECT guideline_id, title FROM checklists",
+                (RowCallbackHandler) rs -> checklistKeys.add(checklistKey(rs.getLong("guideline_id"), rs.getString("title"))));
+        }
+
+        Row apply(int index, CatalogBundleRecord record) {
+            if (record == null || record.getType() == null) {
+                return new Row(index, null, null, Status.ERROR, null, "type 이 필요합니다 (SERVICE, GUIDELINE, CHECKLIST)");
+            }
+            return switch (record.getType()) {
+                case SERVICE -> applyService(index, record);
+                case GUIDELINE -> applyGuideline(index, record);
+                case CHECKLIST -> applyChecklist(index, record);
+            };
+        }
+
+        private Row applyService(int index, CatalogBundleRecord record) {
+            String key = record.getProvider() + "/" + record.getName();
+            Long providerId = record.getProvider() != null ? providerIds.get(normalize(record.getProvider())) : null;
+            if (providerId == null) {
+                return new Row(index, Type.SERVICE, key, Status.ERROR, null, "클라우드 제공업체를 찾을 수 없습니다: " + record.getProvider());
+            }
+            if (isBlank(record.getName())) {
+                return new Row(index, Type.SERVICE, key, Status.ERROR, null, "서비스 이름이 필요합니다");
+            }
+            if (tooLong(record.getName(), SERVICE_NAME_MAX) || tooLong(record.getDisplayName(), SERVICE_NAME_MAX)) {
+                return new Row(index, Type.SERVICE, key, Status.ERROR, null, "서비스 이름은 " + SERVICE_NAME_MAX + "자까지 가능합니다");
+            }
+
+            String serviceKey = serviceKey(providerId, record.getName());
+            Long existing = serviceIds.get(serviceKey);
+            if (existing != null) {
+                return new Row(index, Type.SERVICE, key, Status.EXISTS, existing, null);
+            }
+
+            Long id = nextId("service_lists");
+            String name = record.getName().trim();
+            pendingServices.add(new Object[]{
+                id, providerId, name,
+                isBlank(record.getDisplayName()) ? name : record.getDisplayName().trim(),
+                record.getServiceRealCaseCount() != null ? record.getServiceRealCaseCount() : 0,
+                record.getIsActive() != null ? record.getIsActive() : true
+            });
+            serviceIds.put(serviceKey, id);
+            return new Row(index, Type.SERVICE, key, Status.CREATED, id, null);
+        }
+
+        private Row applyGuideline(int index, CatalogBundleRecord record) {
+            String ref = !isBlank(record.getRef()) ? record.getRef() : record.getTitle();
+            Long providerId = record.getProvider() != null ? providerIds.get(normalize(record.getProvider())) : null;
+            if (providerId == null) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "클라우드 제공업체를 찾을 수 없습니다: " + record.getProvider());
+            }
+            Long serviceListId = record.getService() != null ? serviceIds.get(serviceKey(providerId, record.getService())) : null;
+            if (serviceListId == null) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "서비스를 찾을 수 없습니다: " + record.getService());
+            }
+            if (isBlank(record.getTitle())) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "가이드라인 제목이 필요합니다");
+            }
+            if (tooLong(record.getTitle(), TITLE_MAX)) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "가이드라인 제목은 " + TITLE_MAX + "자까지 가능합니다");
+            }
+            if (record.getLinks() != null && record.getLinks().stream().anyMatch(link -> link != null && tooLong(link.getTitle(), TITLE_MAX))) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "링크 제목은 " + TITLE_MAX + "자까지 가능합니다");
+            }
+            if (!IMPORTANCE_LEVELS.contains(record.getImportanceLevel())) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "중요도는 확인요망, 중요, 긴급 중 하나여야 합니다: " + record.getImportanceLevel());
+            }
+            if (isBlank(record.getWhyDangerous()) || isBlank(record.getWhatHappens())) {
+                return new Row(index, Type.GUIDELINE, ref, Status.ERROR, null, "why_dangerous, what_happens 가 필요합니다");
+            }
+
+            String guidelineKey = guidelineKey(serviceListId, record.getTitle());
+            GuidelineRef existing = guidelinesByKey.get(guidelineKey);
+            if (existing != null) {
+                guidelinesByRef.put(ref, existing);
+                return new Row(index, Type.GUIDELINE, ref, Status.EXISTS, existing.id(), "기존 가이드라인 사용 (링크는 변경하지 않음)");
+            }
+
+            Long id = nextId("guidelines");
+            pendingGuidelines.add(new Object[]{
+                id, record.getTitle().trim(), providerId, serviceListId, record.getImportanceLevel(),
+                record.getWhyDangerous(), record.getWhatHappens(), record.getCheckStandard(),
+                record.getSolutionText(), record.getSideEffects(), record.getNote(), adminId
+            });
+            if (record.getLinks() != null) {
+                for (GuidelineLinkRequest link : record.getLinks()) {
+                    if (link != null && !isBlank(link.getUrl())) {
+                        pendingLinks.add(new Object[]{id, link.getUrl().trim(), link.getTitle() != null ? link.getTitle().trim() : null});
+                    }
+                }
+            }
+            GuidelineRef created = new GuidelineRef(id, providerId, serviceListId);
+            guidelinesByKey.put(guidelineKey, created);
+            guidelinesByRef.put(ref, created);
+            return new Row(index, Type.GUIDELINE, ref, Status.CREATED, id, null);
+        }
+
+        private Row applyChecklist(int index, CatalogBundleRecord record) {
+            String key = record.getGuideline() + "/" + record.getTitle();
+            GuidelineRef guideline = record.getGuideline() != null ? guidelinesByRef.get(record.getGuideline()) : null;
+            if (guideline == null) {
+                return new Row(index, Type.CHECKLIST, key, Status.ERROR, null,
+                    "번들 안의 앞선 GUIDELINE 레코드에서 가이드라인 ref 를 찾을 수 없습니다: " + record.getGuideline());
+            }
+            if (isBlank(record.getTitle())) {
+                return new Row(index, Type.CHECKLIST, key, Status.ERROR, null, "체크리스트 제목이 필요합니다");
+            }
+            if (tooLong(record.getTitle(), TITLE_MAX)) {
+                return new Row(index, Type.CHECKLIST, key, Status.ERROR, null, "체크리스트 제목은 " + TITLE_MAX + "자까지 가능합니다");
+            }
+            if (!checklistKeys.add(checklistKey(guideline.id(), record.getTitle()))) {
+                return new Row(index, Type.CHECKLIST, key, Status.EXISTS, null, null);
+            }
+
+            Long id = nextId("checklists");
+            pendingChecklists.add(new Object[]{
+                id, guideline.cloudProviderId(), guideline.serviceListId(), guideline.id(),
+                record.getTitle().trim(), record.getIsActive() != null ? record.getIsActive() : true, adminId
+            });
+            return new Row(index, Type.CHECKLIST, key, Status.CREATED, id, null);
+        }
+
+        int pendingRows() {
+            return pendingServices.size() + pendingGuidelines.size() + pendingLinks.size() + pendingChecklists.size();
+        }
+
+        /**
+         * 외래 키 순서대로 배치 저장
+         */
+        void flush() {
+            batch(INSERT_SERVICE_SQL, pendingServices);
+            batch(INSERT_GUIDELINE_SQL, pendingGuidelines);
+            batch(INSERT_LINK_SQL, pendingLinks);
+            batch(INSERT_CHECKLIST_SQL, pendingChecklists);
+        }
+
+        private void batch(String sql, List<Object[]> rows) {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        /**
+         * 시퀀스에서 ID_BLOCK_SIZE 개씩 미리 받아 두고 하나씩 사용
+         */
+        private Long nextId(String table) {
+            Deque<Long> pool = idPools.computeIfAbsent(table, key -> new ArrayDeque<>());
+            if (pool.isEmpty()) {
+                pool.addAll(jdbcTemplate.queryForList(
+                    "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                    Long.class, table, ID_BLOCK_SIZE));
+            }
+            return pool.poll();
+        }
+
+        private String serviceKey(Long providerId, String name) {
+            return providerId + ":" + normalize(name);
+        }
+
+        private String guidelineKey(Long serviceListId, String title) {
+            return serviceListId + ":" + title.trim();
+        }
+
+        private String checklistKey(Long guidelineId, String title) {
+            return guidelineId + ":" + title.trim();
+        }
+    }
+
+    private record GuidelineRef(Long id, Long cloudProviderId, Long serviceListId) {
+    }
+}
@@ -0,0 +1,262 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.ChecklistDraftRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistDraftResponse;
+import com.ksj.clouddoctorweb.exception.StaleVersionException;
+import com.ksj.clouddoctorweb.repository.UserChecklistResultRepository;
+import com.ksj.clouddoctorweb.service.ChecklistDraftService;
+import com.ksj.clouddoctorweb.service.UserChecklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체크리스트 임시 저장 서비스 구현체
+ * 키: checklist_draft:{userId}:{resultId} (Hash, 필드=체크리스트 ID, 값=1/0, 삭제는 "-", version=기준 결과지 버전)
+ * 편집 시각: checklist_draft:dirty (ZSet, 멤버={userId}:{resultId}, 점수=마지막 편집 시각)
+ * 반영 시 키를 RENAME 으로 떼어 내므로 여러 노드가 동시에 반영해도 한 노드만 처리
+ * 반영은 부분 수정과 같은 버전 확인을 거치므로 그 사이 전체 수정/부분 수정된 결과지는 덮어쓰지 않고 폐기
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ChecklistDraftServiceImpl implements ChecklistDraftService {
+    
+    private static final String DRAFT_KEY_PREFIX = "checklist_draft:";
+    private static final String DIRTY_KEY = "checklist_draft:dirty";
+    private static final String REMOVED = "-";
+    private static final String VERSION_FIELD = "version";
+    
+    // 편집 저장: 기준 버전(없을 때만) + 변경 항목 + 만료 + dirty 등록을 한 번에 처리
+    // (반영 중 RENAME 과 섞여 버전 없는 임시 저장 키가 생기지 않도록)
+    // ARGV[6] 은 항목 기록 명령 (편집은 HSET, 반영 실패 후 되돌릴 때는 새 편집을 우선하는 HSETNX)
+    private static final RedisScript<Long> SAVE_DRAFT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) " +
+        "for i = 7, #ARGV, 2 do " +
+        "  redis.call(ARGV[6], KEYS[1], ARGV[i], ARGV[i + 1]) " +
+        "end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+        "redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4]) " +
+        "return 1",
+        Long.class);
+    
+    // 반영 커밋 후 정리: 그 사이 새 편집이 없으면 dirty 멤버 제거, 새 편집이 같은 버전 기준이면 반영 후 버전으로 갱신
+    private static final RedisScript<Long> AFTER_FLUSH_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+        "  return redis.call('ZREM', KEYS[1], ARGV[1]) " +
+        "end " +
+        "if ARGV[2] ~= '' and redis.call('HGET', KEYS[2], ARGV[4]) == ARGV[2] then " +
+        "  redis.call('HSET', KEYS[2], ARGV[4], ARGV[3]) " +
+        "end " +
+        "return 0",
+        Long.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserChecklistService userChecklistService;
+    private final UserChecklistResultRepository checklistResultRepository;
+    
+    @Value("${checklist.draft.idle-flush-seconds:30}")
+    private long idleFlushSeconds;
+    
+    @Value("${checklist.draft.flush-batch-size:200}")
+    private int flushBatchSize;
+    
+    @Value("${checklist.draft.ttl-days:7}")
+    private long ttlDays;
+    
+    @Override
+    public ChecklistDraftResponse saveDraft(Long userId, Long resultId, ChecklistDraftRequest request) {
+        // 본인 결과지만 (없는 결과지에 임시 저장분이 쌓이지 않도록)
+        Long currentVersion = checklistResultRepository.findVersion(resultId, userId);
+        if (currentVersion == null) {
+            throw new RuntimeException("체크리스트를 찾을 수 없습니다");
+        }
+        
+        Map<String, String> fields = new HashMap<>();
+        if (request.getChanges() != null) {
+            request.getChanges().forEach((checklistId, checked) -> {
+                if (checklistId != null && checklistId.matches("\\d+") && checked != null) {
+                    fields.put(checklistId, checked ? "1" : "0");
+                }
+            });
+        }
+        if (request.getRemoved() != null) {
+            request.getRemoved().forEach(checklistId -> fields.put(String.valueOf(checklistId), REMOVED));
+        }
+        if (!fields.isEmpty()) {
+            // 기준 버전은 첫 편집 시점의 버전 (이미 있으면 유지)
+            writeDraft(userId, resultId, currentVersion, fields, "HSET");
+        }
+        return getDraft(userId, resultId);
+    }
+    
+    @Override
+    public ChecklistDraftResponse getDraft(Long userId, Long resultId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(draftKey(userId, resultId));
+        ChecklistDraftResponse response = toResponse(resultId, entries);
+        Double score = redisTemplate.opsForZSet().score(DIRTY_KEY, member(userId, resultId));
+        response.setLastEditedAt(score != null && !entries.isEmpty() ? score.longValue() : null);
+        return response;
+    }
+    
+    @Override
+    public int flush(Long userId, Long resultId) {
+        String member = member(userId, resultId);
+        String key = draftKey(userId, resultId);
+        String flushingKey = key + ":flushing:" + UUID.randomUUID();
+        
+        // 반영 중 들어온 편집은 새 키에 쌓이고 다음 반영 대상이 됨
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                afterFlush(key, member, null, null);
+                return 0;
+            }
+            redisTemplate.rename(key, flushingKey);
+        } catch (Exception e) {
+            // 다른 노드가 먼저 가져감
+            return 0;
+        }
+        
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        ChecklistDraftResponse draft = toResponse(resultId, entries);
+        try {
+            boolean applied = userChecklistService.applyDraft(userId, resultId, draft.getVersion(),
+                draft.getChanges(), draft.getRemoved());
+            if (!applied) {
+                log.warn("임시 저장 반영 대상 없음 (삭제되었거나 소유자 불일치): userId={}, resultId={}", userId, resultId);
+            }
+            redisTemplate.delete(flushingKey);
+            // dirty 멤버는 DB 반영이 커밋된 뒤에만 제거 (중간에 실패해도 다음 주기에 다시 반영)
+            afterFlush(key, member, draft.getVersion(), applied && draft.getVersion() != null ? draft.getVersion() + 1 : null);
+            return applied ? draft.getChanges().size() + draft.getRemoved().size() : 0;
+        } catch (StaleVersionException e) {
+            // 임시 저장 이후 다른 곳에서 수정됨 → 이전 변경분으로 새 답변을 덮어쓰지 않고 폐기
+            log.warn("임시 저장분 폐기 (버전 불일치): userId={}, resultId={}, draftVersion={}, currentVersion={}",
+                userId, resultId, draft.getVersion(), e.getCurrentVersion());
+            redisTemplate.delete(flushingKey);
+            afterFlush(key, member, null, null);
+            throw e;
+        } catch (Exception e) {
+            // DB 반영 실패 시 변경분을 되돌림 (그 사이 새로 편집된 항목이 우선)
+            log.error("임시 저장 반영 실패: userId={}, resultId={}, error={}", userId, resultId, e.getMessage());
+            Map<String, String> fields = new HashMap<>();
+            entries.forEach((field, value) -> {
+                if (!VERSION_FIELD.equals(field)) {
+                    fields.put(field.toString(), value.toString());
+                }
+            });
+            // 기준 버전이 없는 임시 저장분은 반영할 수 없으므로 되돌리지 않음
+            if (draft.getVersion() != null) {
+                writeDraft(userId, resultId, draft.getVersion(), fields, "HSETNX");
+            }
+            redisTemplate.delete(flushingKey);
+            throw new RuntimeException("체크리스트 임시 저장분 반영에 실패했습니다");
+        }
+    }
+    
+    @Override
+    public void discard(Long userId, Long resultId) {
+        String key = draftKey(userId, resultId);
+        redisTemplate.delete(key);
+        redisTemplate.opsForZSet().remove(DIRTY_KEY, member(userId, resultId));
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${checklist.draft.flush-interval-millis:10000}")
+    public void flushIdleDrafts() {
+        long idleBefore = System.currentTimeMillis() - idleFlushSeconds * 1000;
+        Set<String> idle;
+        try {
+            idle = redisTemplate.opsForZSet().rangeByScore(DIRTY_KEY, 0, idleBefore, 0, flushBatchSize);
+        } catch (Exception e) {
+            log.warn("임시 저장 목록 조회 실패 (Redis): {}", e.getMessage());
+            return;
+        }
+        if (idle == null || idle.isEmpty()) {
+            return;
+        }
+        int flushed = 0;
+        for (String member : idle) {
+            String[] parts = member.split(":");
+            try {
+                flushed += flush(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (Exception e) {
+                log.warn("임시 저장 반영 보류: member={}, error={}", member, e.getMessage());
+            }
+        }
+        log.info("임시 저장 일괄 반영: drafts={}, items={}", idle.size(), flushed);
+    }
+    
+    /**
+     * 임시 저장 키에 기준 버전/항목/만료/dirty 등록을 원자적으로 기록
+     */
+    private void writeDraft(Long userId, Long resultId, Long version, Map<String, String> fields, String command) {
+        List<String> args = new ArrayList<>();
+        args.add(VERSION_FIELD);
+        args.add(String.valueOf(version));
+        args.add(String.valueOf(TimeUnit.DAYS.toSeconds(ttlDays)));
+        args.add(member(userId, resultId));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(command);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        redisTemplate.execute(SAVE_DRAFT_SCRIPT, List.of(draftKey(userId, resultId), DIRTY_KEY), args.toArray());
+    }
+    
+    /**
+     * 반영 후 정리 (새 편집 유무 확인과 dirty 멤버 제거를 원자적으로 처리)
+     */
+    private void afterFlush(String key, String member, Long flushedVersion, Long newVersion) {
+        redisTemplate.execute(AFTER_FLUSH_SCRIPT, List.of(DIRTY_KEY, key), member,
+            newVersion != null ? String.valueOf(flushedVersion) : "",
+            newVersion != null ? String.valueOf(newVersion) : "",
+            VERSION_FIELD);
+    }
+    
+    private ChecklistDraftResponse toResponse(Long resultId, Map<Object, Object> entries) {
+        Map<String, Boolean> changes = new LinkedHashMap<>();
+        List<Long> removed = new ArrayList<>();
+        Long version = null;
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            Object field = entry.getKey();
+            Object value = entry.getValue();
+            if (VERSION_FIELD.equals(field)) {
+                version = Long.parseLong(value.toString());
+            } else if (REMOVED.equals(value)) {
+                removed.add(Long.parseLong(field.toString()));
+            } else {
+                changes.put(field.toString(), "1".equals(value));
+            }
+        }
+        ChecklistDraftResponse response = new ChecklistDraftResponse();
+        response.setResultId(resultId);
+        response.setVersion(version);
+        response.setChanges(changes);
+        response.setRemoved(removed);
+        return response;
+    }
+    
+    private static String draftKey(Long userId, Long resultId) {
+        return DRAFT_KEY_PREFIX + userId + ":" + resultId;
+    }
+    
+    private static String member(Long userId, Long resultId) {
+        return userId + ":" + resultId;
+    }
+}
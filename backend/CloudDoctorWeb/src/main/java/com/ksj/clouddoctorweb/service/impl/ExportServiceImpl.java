@@ -0,0 +1,140 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.service.ExportService;
+import com.ksj.clouddoctorweb.util.AuditCheckIds;
+import com.ksj.clouddoctorweb.util.ExportRowWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내보내기 서비스 구현체
+ * PostgreSQL 드라이버는 autocommit 이 꺼진 상태에서만 fetchSize 단위 커서 조회를 하므로 읽기 전용 트랜잭션 안에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ExportServiceImpl implements ExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final List<String> CHECKLIST_COLUMNS = List.of(
+        "result_id", "result_name", "completion_date", "checklist_id", "checklist_title",
+        "service", "guideline_title", "importance_level", "checked", "checked_at");
+
+    private static final String CHECKLIST_SQL =
+        "SELECT r.id AS result_id, r.result_name, r.completion_date, c.id AS checklist_id, c.title AS checklist_title, " +
+        "s.display_name AS service, g.title AS guideline_title, g.importance_level, i.is_checked, i.checked_at " +
+        "FROM user_checklist_results r " +
+        "JOIN user_checklist_item_results i ON i.user_checklist_result_id = r.id " +
+        "JOIN checklists c ON c.id = i.checklist_id " +
+        "JOIN service_lists s ON s.id = c.service_list_id " +
+        "JOIN guidelines g ON g.id = c.guideline_id " +
+        "WHERE r.user_id = ?";
+
+    private static final List<String> FINDING_COLUMNS = List.of(
+        "run_id", "account_id", "audited_at", "service", "check_id", "resource_id", "status", "message");
+
+    private static final String FINDING_SQL =
+        "SELECT r.id AS run_id, r.account_id, r.created_at, f.check_id, f.resource_id, f.status, f.message " +
+        "FROM audit_runs r " +
+        "JOIN audit_findings f ON f.audit_run_id = r.id " +
+        "WHERE r.user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportChecklistResults(Long userId, Long resultId, ExportRowWriter.Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(CHECKLIST_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        if (resultId != null) {
+            sql.append(" AND r.id = ?");
+            params.add(resultId);
+        }
+        sql.append(" ORDER BY r.id, c.id");
+
+        ExportRowWriter writer = new ExportRowWriter(out, format, CHECKLIST_COLUMNS, objectMapper);
+        writer.writeHeader();
+        stream(sql.toString(), params, rs -> writer.writeRow(
+            rs.getLong("result_id"),
+            rs.getString("result_name"),
+            toText(rs.getTimestamp("completion_date")),
+            rs.getLong("checklist_id"),
+            rs.getString("checklist_title"),
+            rs.getString("service"),
+            rs.getString("guideline_title"),
+            rs.getString("importance_level"),
+            rs.getBoolean("is_checked"),
+            toText(rs.getTimestamp("checked_at"))));
+        long rows = writer.finish();
+        log.info("체크리스트 결과 내보내기: userId={}, resultId={}, format={}, rows={}", userId, resultId, format, rows);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAuditFindings(Long userId, Long runId, String accountId, ExportRowWriter.Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(FINDING_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        if (runId != null) {
+            sql.append(" AND r.id = ?");
+            params.add(runId);
+        }
+        if (accountId != null && !accountId.isBlank()) {
+            sql.append(" AND r.account_id = ?");
+            params.add(accountId);
+        }
+        sql.append(" ORDER BY r.id DESC, f.id");
+
+        ExportRowWriter writer = new ExportRowWriter(out, format, FINDING_COLUMNS, objectMapper);
+        writer.writeHeader();
+        stream(sql.toString(), params, rs -> {
+            String checkId = rs.getString("check_id");
+            writer.writeRow(
+                rs.getLong("run_id"),
+                rs.getString("account_id"),
+                toText(rs.getTimestamp("created_at")),
+                AuditCheckIds.serviceOf(checkId),
+                checkId,
+                rs.getString("resource_id"),
+                rs.getString("status"),
+                rs.getString("message"));
+        });
+        long rows = writer.finish();
+        log.info("점검 결과 내보내기: userId={}, runId={}, accountId={}, format={}, rows={}", userId, runId, accountId, format, rows);
+        return rows;
+    }
+
+    /**
+     * 전방향 읽기 전용 커서로 FETCH_SIZE 행씩 받아오며 한 행씩 처리
+     */
+    private void stream(String sql, List<Object> params, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static String toText(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -0,0 +1,242 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.entity.GuidelineSolutionImage;
+import com.ksj.clouddoctorweb.repository.GuidelineSolutionImageRepository;
+import com.ksj.clouddoctorweb.service.GuidelineImageDerivativeService;
+import com.ksj.clouddoctorweb.service.S3Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가이드라인 조치방안 이미지 파생본 생성 구현체
+ * - 고정 크기 작업 스레드 + 제한된 대기열 (업로드가 몰려도 메모리/CPU 사용량 상한 유지)
+ * - 파생본 키: guidelines/{id}/derived/{원본 SHA-256}-w{너비}.{확장자} → 같은 원본이면 같은 키, 영구 캐시
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class GuidelineImageDerivativeServiceImpl implements GuidelineImageDerivativeService {
+    
+    private final GuidelineSolutionImageRepository guidelineSolutionImageRepository;
+    private final Optional<S3Service> s3Service;
+    
+    @Value("${guideline.image.derivative.thumbnail-width:320}")
+    private int thumbnailWidth;
+    
+    @Value("${guideline.image.derivative.medium-width:960}")
+    private int mediumWidth;
+    
+    @Value("${guideline.image.derivative.workers:2}")
+    private int workers;
+    
+    @Value("${guideline.image.derivative.queue-capacity:100}")
+    private int queueCapacity;
+    
+    // 디코딩 전 해상도 상한 (10MB PNG 라도 픽셀 수가 크면 수백 MB 를 차지하므로 미리 거절)
+    @Value("${guideline.image.derivative.max-pixels:40000000}")
+    private long maxPixels;
+    
+    private ThreadPoolExecutor executor;
+    
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    @Override
+    public void schedule(Long imageId) {
+        if (s3Service.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에는 작업 스레드에서 이미지 행이 보이지 않으므로 커밋 후 예약
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(imageId);
+                }
+            });
+        } else {
+            submit(imageId);
+        }
+    }
+    
+    @Override
+    public int scheduleMissing() {
+        if (s3Service.isEmpty()) {
+            throw new RuntimeException("S3 서비스가 비활성화되어 있습니다");
+        }
+        List<Long> imageIds = guidelineSolutionImageRepository.findIdsWithoutDerivatives();
+        int scheduled = 0;
+        for (Long imageId : imageIds) {
+            if (!submit(imageId)) {
+                break;
+            }
+            scheduled++;
+        }
+        log.info("이미지 파생본 백필 예약: {}/{}건", scheduled, imageIds.size());
+        return scheduled;
+    }
+    
+    private boolean submit(Long imageId) {
+        try {
+            executor.execute(() -> generate(imageId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 파생본 대기열이 가득 차 건너뜀: imageId={}", imageId);
+            return false;
+        }
+    }
+    
+    private void generate(Long imageId) {
+        try {
+            GuidelineSolutionImage image = guidelineSolutionImageRepository.findById(imageId).orElse(null);
+            if (image == null || image.getThumbnailUrl() != null) {
+                return;
+            }
+            S3Service s3 = s3Service.get();
+            String key = s3.keyOf(image.getImageUrl());
+            if (key == null) {
+                log.warn("이 버킷의 이미지가 아니어서 파생본을 만들지 않음: imageId={}, url={}", imageId, image.getImageUrl());
+                return;
+            }
+            
+            byte[] source = s3.getObjectBytes(key);
+            BufferedImage original = decode(source);
+            if (original == null) {
+                log.warn("디코딩할 수 없는 이미지 형식이어서 파생본을 만들지 않음: imageId={}, key={}", imageId, key);
+                return;
+            }
+            
+            String hash = sha256(source);
+            String folder = key.substring(0, key.lastIndexOf('/')) + "/derived/" + hash;
+            String thumbnailUrl = derive(s3, original, folder, thumbnailWidth);
+            String mediumUrl = derive(s3, original, folder, mediumWidth);
+            
+            guidelineSolutionImageRepository.updateDerivatives(imageId, hash, thumbnailUrl, mediumUrl);
+            log.info("이미지 파생본 생성: imageId={}, {}x{} → w{}, w{}", imageId,
+                original.getWidth(), original.getHeight(), thumbnailWidth, mediumWidth);
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 실패: imageId={}", imageId, e);
+        }
+    }
+    
+    /**
+     * 헤더로 해상도를 먼저 확인한 뒤 디코딩 (지원하지 않는 형식이면 null)
+     */
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new RuntimeException("이미지 해상도가 너무 큽니다: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    /**
+     * 지정 너비로 축소하여 저장 (원본보다 크게 늘리지 않음)
+     * 투명도가 있으면 PNG, 없으면 JPEG
+     */
+    private String derive(S3Service s3, BufferedImage original, String folder, int targetWidth) throws IOException {
+        int width = Math.min(targetWidth, original.getWidth());
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+        boolean alpha = original.getColorModel().hasAlpha();
+        
+        BufferedImage scaled = scale(original, width, height, alpha);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String format = alpha ? "png" : "jpg";
+        ImageIO.write(scaled, format, out);
+        
+        return s3.putImmutable(folder + "-w" + width + "." + format, out.toByteArray(), alpha ? "image/png" : "image/jpeg");
+    }
+    
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (!alpha) {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+    
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.ImageUploadPresignRequest;
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
+import com.ksj.clouddoctorweb.entity.Guideline;
+import com.ksj.clouddoctorweb.entity.GuidelineSolutionImage;
+import com.ksj.clouddoctorweb.repository.GuidelineRepository;
+import com.ksj.clouddoctorweb.repository.GuidelineSolutionImageRepository;
+import com.ksj.clouddoctorweb.service.GuidelineImageDerivativeService;
+import com.ksj.clouddoctorweb.service.GuidelineImageService;
+import com.ksj.clouddoctorweb.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 가이드라인 조치방안 이미지 서비스 구현체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class GuidelineImageServiceImpl implements GuidelineImageService {
+    
+    private static final String FOLDER = "guidelines";
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    
+    private final GuidelineRepository guidelineRepository;
+    private final GuidelineSolutionImageRepository guidelineSolutionImageRepository;
+    private final GuidelineImageDerivativeService guidelineImageDerivativeService;
+    private final Optional<S3Service> s3Service;
+    
+    @Value("${guideline.image.max-bytes:10485760}")
+    private long maxImageBytes;
+    
+    @Override
+    public PresignedUploadResponse presignUpload(Long guidelineId, ImageUploadPresignRequest request) {
+        S3Service s3 = requireS3();
+        if (!guidelineRepository.existsById(guidelineId)) {
+            throw new RuntimeException("가이드라인을 찾을 수 없습니다");
+        }
+        validate(request.getContentType(), request.getContentLength());
+        
+        // 가이드라인별 폴더로 발급하여 확인 단계에서 다른 가이드라인의 객체를 등록할 수 없게 함
+        PresignedUploadResponse response = s3.generatePresignedUploadUrl(
+            folderOf(guidelineId), request.getFileName(), request.getContentType(), request.getContentLength());
+        log.info("이미지 업로드 URL 발급: guidelineId={}, key={}", guidelineId, response.getKey());
+        return response;
+    }
+    
+    @Override
+    @Transactional
+    public GuidelineSolutionImage confirmUpload(Long guidelineId, String key) {
+        S3Service s3 = requireS3();
+        if (key == null || !key.startsWith(folderOf(guidelineId) + "/") || key.contains("..")) {
+            throw new RuntimeException("이 가이드라인에 발급된 업로드 키가 아닙니다");
+        }
+        Guideline guideline = guidelineRepository.findById(guidelineId)
+            .orElseThrow(() -> new RuntimeException("가이드라인을 찾을 수 없습니다"));
+        
+        String imageUrl = s3.publicUrl(key);
+        List<GuidelineSolutionImage> images = guidelineSolutionImageRepository.findByGuidelineIdOrderByDisplayOrderAsc(guidelineId);
+        for (GuidelineSolutionImage image : images) {
+            if (imageUrl.equals(image.getImageUrl())) {
+                return image;
+            }
+        }
+        
+        HeadObjectResponse head = s3.headObject(key);
+        if (head == null) {
+            throw new RuntimeException("업로드된 이미지를 찾을 수 없습니다: " + key);
+        }
+        validate(head.contentType(), head.contentLength());
+        
+        GuidelineSolutionImage saved = save(guideline, imageUrl, images);
+        log.info("이미지 직접 업로드 확인: guidelineId={}, key={}, bytes={}", guidelineId, key, head.contentLength());
+        return saved;
+    }
+    
+    /**
+     * 업로드 중에는 트랜잭션/커넥션을 잡지 않고, 완료 후 업로드 스레드에서 이미지 행만 저장
+     */
+    @Override
+    public CompletableFuture<GuidelineSolutionImage> upload(Long guidelineId, MultipartFile file) throws IOException {
+        S3Service s3 = requireS3();
+        Guideline guideline = guidelineRepository.findById(guidelineId)
+            .orElseThrow(() -> new RuntimeException("가이드라인을 찾을 수 없습니다"));
+        validate(file.getContentType(), file.getSize());
+        
+        return s3.uploadImage(file, folderOf(guidelineId))
+            .thenApply(imageUrl -> save(guideline, imageUrl,
+                guidelineSolutionImageRepository.findByGuidelineIdOrderByDisplayOrderAsc(guidelineId)));
+    }
+    
+    private GuidelineSolutionImage save(Guideline guideline, String imageUrl, List<GuidelineSolutionImage> existing) {
+        int nextOrder = existing.stream()
+            .map(GuidelineSolutionImage::getDisplayOrder)
+            .filter(order -> order != null)
+            .max(Integer::compare)
+            .orElse(0) + 1;
+        
+        GuidelineSolutionImage solutionImage = new GuidelineSolutionImage();
+        solutionImage.setGuideline(guideline);
+        solutionImage.setImageUrl(imageUrl);
+        solutionImage.setDisplayOrder(nextOrder);
+        GuidelineSolutionImage saved = guidelineSolutionImageRepository.save(solutionImage);
+        
+        // 썸네일 / 중간 크기 파생본은 백그라운드에서 생성 (그 전까지는 원본 URL 사용)
+        guidelineImageDerivativeService.schedule(saved.getId());
+        return saved;
+    }
+    
+    private void validate(String contentType, Long contentLength) {
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            throw new RuntimeException("허용되지 않는 이미지 형식입니다: " + contentType);
+        }
+        if (contentLength == null || contentLength <= 0 || contentLength > maxImageBytes) {
+            throw new RuntimeException("이미지 크기는 " + (maxImageBytes / 1024 / 1024) + "MB 이하여야 합니다");
+        }
+    }
+    
+    private S3Service requireS3() {
+        return s3Service.orElseThrow(() -> new RuntimeException("S3 서비스가 비활성화되어 있습니다"));
+    }
+    
+    private static String folderOf(Long guidelineId) {
+        return FOLDER + "/" + guidelineId;
+    }
+}
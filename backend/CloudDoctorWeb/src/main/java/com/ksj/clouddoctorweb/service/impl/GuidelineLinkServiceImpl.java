@@ -0,0 +1,96 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.GuidelineLinkRequest;
+import com.ksj.clouddoctorweb.entity.GuidelineLink;
+import com.ksj.clouddoctorweb.repository.GuidelineLinkRepository;
+import com.ksj.clouddoctorweb.service.GuidelineLinkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 가이드라인 참고 링크 서비스 구현체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class GuidelineLinkServiceImpl implements GuidelineLinkService {
+    
+    private final GuidelineLinkRepository guidelineLinkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional
+    public List<GuidelineLinkRequest> syncLinks(Long guidelineId, List<GuidelineLinkRequest> links) {
+        // 같은 URL 이 여러 번 등록된 경우도 순서대로 하나씩 짝지음
+        Map<String, Deque<GuidelineLink>> existingByUrl = new HashMap<>();
+        List<GuidelineLink> existing = new ArrayList<>(guidelineLinkRepository.findByGuidelineId(guidelineId));
+        existing.sort(Comparator.comparing(GuidelineLink::getId));
+        for (GuidelineLink link : existing) {
+            existingByUrl.computeIfAbsent(link.getUrl(), key -> new ArrayDeque<>()).add(link);
+        }
+        
+        Map<Long, String> kept = new HashMap<>();
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<GuidelineLinkRequest> added = new ArrayList<>();
+        if (links != null) {
+            for (GuidelineLinkRequest request : links) {
+                if (request == null || request.getUrl() == null || request.getUrl().trim().isEmpty()) {
+                    continue;
+                }
+                String url = request.getUrl().trim();
+                Deque<GuidelineLink> candidates = existingByUrl.get(url);
+                GuidelineLink match = candidates != null ? candidates.poll() : null;
+                if (match == null) {
+                    inserts.add(new Object[]{guidelineId, url, request.getTitle()});
+                    added.add(new GuidelineLinkRequest(request.getTitle(), url));
+                    continue;
+                }
+                if (!Objects.equals(match.getTitle(), request.getTitle())) {
+                    updates.add(new Object[]{request.getTitle(), match.getId()});
+                }
+                kept.put(match.getId(), request.getTitle());
+            }
+        }
+        
+        List<Object[]> deletes = existing.stream()
+            .filter(link -> !kept.containsKey(link.getId()))
+            .map(link -> new Object[]{link.getId()})
+            .toList();
+        
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM guideline_links WHERE id = ?", deletes);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE guideline_links SET title = ? WHERE id = ?", updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO guideline_links (guideline_id, url, title) VALUES (?, ?, ?)", inserts);
+        }
+        if (!deletes.isEmpty() || !updates.isEmpty() || !inserts.isEmpty()) {
+            log.info("가이드라인 링크 반영: guidelineId={}, inserted={}, updated={}, deleted={}",
+                guidelineId, inserts.size(), updates.size(), deletes.size());
+        }
+        
+        List<GuidelineLinkRequest> result = new ArrayList<>();
+        for (GuidelineLink link : existing) {
+            if (kept.containsKey(link.getId())) {
+                result.add(new GuidelineLinkRequest(kept.get(link.getId()), link.getUrl()));
+            }
+        }
+        result.addAll(added);
+        return result;
+    }
+}
@@ -0,0 +1,219 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.AuditGuidelineInfo;
+import com.ksj.clouddoctorweb.dto.InfraAuditRequest;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse;
+import com.ksj.clouddoctorweb.dto.InfraAuditResponse.CheckResult;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.exception.InfraAuditException;
+import com.ksj.clouddoctorweb.service.AuditResultCache;
+import com.ksj.clouddoctorweb.service.AuditResultCache.CachedCheck;
+import com.ksj.clouddoctorweb.service.AuditRunService;
+import com.ksj.clouddoctorweb.service.CheckGuidelineIndex;
+import com.ksj.clouddoctorweb.service.InfraAuditClient;
+import com.ksj.clouddoctorweb.service.InfraAuditService;
+import com.ksj.clouddoctorweb.util.AuditCheckIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인프라 점검 실행 서비스 구현체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class InfraAuditServiceImpl implements InfraAuditService {
+
+    private final InfraAuditClient infraAuditClient;
+    private final AuditResultCache auditResultCache;
+    private final AuditRunService auditRunService;
+    private final CheckGuidelineIndex checkGuidelineIndex;
+    private final ObjectMapper objectMapper;
+
+    @Value("${infraaudit.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Override
+    public InfraAuditResponse runAudit(User user, InfraAuditRequest request) {
+        List<String> requestedChecks = new ArrayList<>(new LinkedHashSet<>(
+            request.getChecks() != null && !request.getChecks().isEmpty() ? request.getChecks() : AuditCheckIds.ALL));
+
+        // 1. 캐시 조회 (명시적으로 재점검 요청된 항목은 제외)
+        Map<String, CachedCheck> cached = new HashMap<>();
+        if (cacheEnabled && !Boolean.FALSE.equals(request.getUseCache())) {
+            Set<String> refreshChecks = request.getRefreshChecks() != null ? new HashSet<>(request.getRefreshChecks()) : Set.of();
+            List<String> cacheable = requestedChecks.stream()
+                .filter(checkId -> !refreshChecks.contains(checkId))
+                .toList();
+            cached = auditResultCache.getAll(user.getId(), request.getAccountId(),
+                request.getRoleName(), request.getExternalId(), cacheable);
+        }
+
+        Map<String, CachedCheck> finalCached = cached;
+        List<String> staleChecks = requestedChecks.stream()
+            .filter(checkId -> !finalCached.containsKey(checkId))
+            .toList();
+
+        // 2. 만료된 항목만 infraaudit 로 점검 (빈 checks 는 전체 점검으로 처리되므로 호출 자체를 생략)
+        InfraAuditResponse fresh = null;
+        if (!staleChecks.isEmpty()) {
+            fresh = runStaleChecks(request, staleChecks);
+            checkGuidelineIndex.learn(fresh.getGuidelineIds());
+            if ("completed".equals(fresh.getStatus())) {
+                storeFreshResults(user, request, staleChecks, fresh);
+            }
+        }
+
+        log.info("인프라 점검 실행: user={}, accountId={}, requested={}, cached={}, executed={}",
+            user.getUsername(), request.getAccountId(), requestedChecks.size(), cached.size(), staleChecks.size());
+
+        // 3. 최신 결과 + 캐시 결과 병합
+        InfraAuditResponse merged = merge(request.getAccountId(), requestedChecks, fresh, cached);
+        attachGuidelines(merged);
+
+        // 4. 실행 이력 저장 (저장 실패가 점검 결과 반환을 막지 않음)
+        try {
+            merged.setRunId(auditRunService.recordRun(user, merged));
+        } catch (Exception e) {
+            log.error("점검 실행 이력 저장 실패: accountId={}, error={}", request.getAccountId(), e.getMessage());
+        }
+        return merged;
+    }
+
+    private InfraAuditResponse runStaleChecks(InfraAuditRequest request, List<String> staleChecks) {
+        InfraAuditRequest staleRequest = new InfraAuditRequest();
+        staleRequest.setAccountId(request.getAccountId());
+        staleRequest.setRoleName(request.getRoleName());
+        staleRequest.setExternalId(request.getExternalId());
+        staleRequest.setChecks(staleChecks);
+
+        String body = infraAuditClient.startAudit(staleRequest);
+        try {
+            return objectMapper.readValue(body, InfraAuditResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new InfraAuditException(InfraAuditException.Reason.UNKNOWN, "invalid infraaudit response", 0, e);
+        }
+    }
+
+    /**
+     * 점검 항목 단위로 결과를 나누어 캐시에 저장 (결과가 없는 항목도 "결과 없음" 으로 캐시)
+     */
+    private void storeFreshResults(User user, InfraAuditRequest request, List<String> staleChecks, InfraAuditResponse fresh) {
+        Map<String, List<CheckResult>> resultsByCheck = new HashMap<>();
+        if (fresh.getResults() != null) {
+            for (CheckResult result : fresh.getResults()) {
+                resultsByCheck.computeIfAbsent(result.getCheckId(), key -> new ArrayList<>()).add(result);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (String checkId : staleChecks) {
+            if (!AuditCheckIds.ALL.contains(checkId)) {
+                continue;
+            }
+            CachedCheck cachedCheck = new CachedCheck();
+            cachedCheck.setCheckId(checkId);
+            cachedCheck.setResults(resultsByCheck.getOrDefault(checkId, List.of()));
+            cachedCheck.setGuidelineId(fresh.getGuidelineIds() != null ? fresh.getGuidelineIds().get(checkId) : null);
+            cachedCheck.setAuditedAt(now);
+            auditResultCache.put(user.getId(), request.getAccountId(), request.getRoleName(), request.getExternalId(), cachedCheck);
+        }
+    }
+
+    private InfraAuditResponse merge(String accountId, List<String> requestedChecks,
+                                     InfraAuditResponse fresh, Map<String, CachedCheck> cached) {
+        InfraAuditResponse merged = new InfraAuditResponse();
+        String now = LocalDateTime.now().toString();
+        merged.setAuditId(fresh != null ? fresh.getAuditId() : "cached-" + UUID.randomUUID());
+        merged.setAccountId(accountId);
+        merged.setStatus(fresh != null ? fresh.getStatus() : "completed");
+        merged.setStartedAt(fresh != null ? fresh.getStartedAt() : now);
+        merged.setCompletedAt(fresh != null ? fresh.getCompletedAt() : now);
+        merged.setError(fresh != null ? fresh.getError() : null);
+
+        List<CheckResult> results = new ArrayList<>();
+        Map<String, Long> guidelineIds = new LinkedHashMap<>();
+        if (fresh != null) {
+            if (fresh.getResults() != null) {
+                results.addAll(fresh.getResults());
+            }
+            if (fresh.getGuidelineIds() != null) {
+                guidelineIds.putAll(fresh.getGuidelineIds());
+            }
+        }
+
+        List<String> cachedChecks = new ArrayList<>();
+        for (String checkId : requestedChecks) {
+            CachedCheck cachedCheck = cached.get(checkId);
+            if (cachedCheck == null) {
+                continue;
+            }
+            cachedChecks.add(checkId);
+            results.addAll(cachedCheck.getResults());
+            if (cachedCheck.getGuidelineId() != null) {
+                guidelineIds.put(checkId, cachedCheck.getGuidelineId());
+            }
+        }
+
+        merged.setResults(results);
+        merged.setGuidelineIds(guidelineIds);
+        merged.setSummary(summarize(results));
+        merged.setCachedChecks(cachedChecks);
+        return merged;
+    }
+
+    /**
+     * 가이드라인 인덱스로 점검 결과에 가이드라인 정보 첨부 (결과 1건당 O(1), DB 조회 없음)
+     */
+    private void attachGuidelines(InfraAuditResponse response) {
+        Map<String, AuditGuidelineInfo> guidelines = new LinkedHashMap<>();
+        for (CheckResult result : response.getResults()) {
+            Long guidelineId = response.getGuidelineIds().get(result.getCheckId());
+            if (guidelineId == null) {
+                guidelineId = checkGuidelineIndex.guidelineIdFor(result.getCheckId());
+            }
+            AuditGuidelineInfo info = checkGuidelineIndex.get(guidelineId);
+            if (info == null) {
+                continue;
+            }
+            result.setGuidelineId(info.getGuidelineId());
+            result.setImportanceLevel(info.getImportanceLevel());
+            guidelines.putIfAbsent(result.getCheckId(), info);
+        }
+        response.setGuidelines(guidelines);
+    }
+
+    /**
+     * infraaudit _generate_summary 와 동일한 요약 (병합 결과 기준으로 재계산)
+     */
+    private Map<String, Integer> summarize(List<CheckResult> results) {
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        summary.put("total", results.size());
+        summary.put("pass", 0);
+        summary.put("fail", 0);
+        summary.put("warn", 0);
+        summary.put("error", 0);
+        for (CheckResult result : results) {
+            if (result.getStatus() == null) {
+                continue;
+            }
+            summary.computeIfPresent(result.getStatus().toLowerCase(), (key, count) -> count + 1);
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,258 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
+import com.ksj.clouddoctorweb.service.S3Service;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로컬 파일시스템 저장소 (aws.s3.enabled=false 일 때 S3 대신 사용)
+ * - 객체 키를 storage.local.root 아래 상대 경로로 그대로 저장
+ * - 공개 URL 은 /files/{key} (FileController 가 제로카피로 전송)
+ * - 직접 업로드 URL 은 HMAC 서명 (키 / Content-Type / Content-Length / 만료 시각) 을 붙인 PUT /files/{key}
+ */
+@Service
+@Log4j2
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalFileStorageServiceImpl implements S3Service {
+
+    private static final Duration UPLOAD_URL_TTL = Duration.ofMinutes(10); // 10분 유효
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${storage.local.root:./data/files}")
+    private String rootDir;
+
+    // 비어 있으면 시작 시 임의 생성 (재시작 전 발급한 업로드 URL 은 무효)
+    @Value("${storage.local.signing-secret:}")
+    private String signingSecret;
+
+    @Value("${storage.public-base-url:}")
+    private String publicBaseUrl;
+
+    private Path root;
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(rootDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        byte[] secret;
+        if (signingSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        log.info("로컬 파일 저장소 사용: {}", root);
+    }
+
+    @Override
+    public CompletableFuture<String> uploadImage(MultipartFile file, String folder) throws IOException {
+        String key = folder + "/" + UUID.randomUUID() + "_" + S3Service.sanitizeFileName(file.getOriginalFilename());
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 컨테이너 임시 파일을 그대로 옮김 (같은 파일시스템이면 복사 없이 이동)
+        file.transferTo(target);
+        log.info("이미지 저장 성공: {} ({} bytes)", key, file.getSize());
+        return CompletableFuture.completedFuture(publicUrl(key));
+    }
+
+    @Override
+    public PresignedUploadResponse generatePresignedUploadUrl(String folder, String fileName, String contentType, long contentLength) {
+        String key = folder + "/" + UUID.randomUUID() + "_" + S3Service.sanitizeFileName(fileName);
+        Instant expiresAt = Instant.now().plus(UPLOAD_URL_TTL);
+        long expires = expiresAt.getEpochSecond();
+
+        String uploadUrl = publicUrl(key) + "?expires=" + expires + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUploadResponse(key, uploadUrl, contentType, expiresAt);
+    }
+
+    @Override
+    public String generatePresignedDownloadUrl(String key) {
+        // 로컬 파일은 공개 URL 로 바로 제공
+        return publicUrl(key);
+    }
+
+    @Override
+    public HeadObjectResponse headObject(String key) {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return HeadObjectResponse.builder()
+                .contentType(contentTypeOf(key))
+                .contentLength(Files.size(file))
+                .lastModified(Files.getLastModifiedTime(file).toInstant())
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] getObjectBytes(String key) {
+        try {
+            return Files.readAllBytes(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String putImmutable(String key, byte[] content, String contentType) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp-" + UUID.randomUUID());
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return publicUrl(key);
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl.replaceAll("/+$", "") + "/files/" + key;
+    }
+
+    @Override
+    public Path localPath(String key) {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * 서명 확인 후 본문을 임시 파일에 받아 크기가 맞을 때만 키 위치로 이동
+     */
+    @Override
+    public void receiveSignedUpload(String key, String contentType, long contentLength,
+                                    long expires, String signature, InputStream body) throws IOException {
+        if (Instant.now().getEpochSecond() > expires) {
+            throw new RuntimeException("업로드 URL 이 만료되었습니다");
+        }
+        String expected = sign(key, contentType, contentLength, expires);
+        if (signature == null || !MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), signature.getBytes(StandardCharsets.UTF_8))) {
+            throw new RuntimeException("업로드 URL 서명이 일치하지 않습니다");
+        }
+
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp-" + UUID.randomUUID());
+        try {
+            long written;
+            try (InputStream in = new BoundedInputStream(body, contentLength + 1)) {
+                written = Files.copy(in, temp);
+            }
+            if (written != contentLength) {
+                throw new RuntimeException("업로드 크기가 서명된 크기와 다릅니다");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.info("이미지 직접 업로드 저장: {} ({} bytes)", key, contentLength);
+    }
+
+    /**
+     * 키를 저장소 경로로 변환 (루트 밖을 가리키는 키는 거절)
+     */
+    private Path resolve(String key) {
+        if (key == null || key.isBlank() || key.startsWith("/") || key.contains("\\")) {
+            throw new RuntimeException("잘못된 파일 경로입니다");
+        }
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new RuntimeException("잘못된 파일 경로입니다");
+        }
+        return file;
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            String payload = key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    /**
+     * 최대 limit 바이트까지만 읽는 스트림 (Content-Length 보다 긴 본문으로 디스크를 채우지 못하게 함)
+     */
+    private static final class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
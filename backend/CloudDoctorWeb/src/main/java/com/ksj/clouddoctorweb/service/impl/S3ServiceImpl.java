@@ -0,0 +1,289 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.PresignedUploadResponse;
+import com.ksj.clouddoctorweb.service.S3DiskCache;
+import com.ksj.clouddoctorweb.service.S3Service;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true", matchIfMissing = false)
+public class S3ServiceImpl implements S3Service {
+
+    private static final Duration UPLOAD_URL_TTL = Duration.ofMinutes(10); // 10분 유효
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService s3UploadExecutor;
+    private final MeterRegistry meterRegistry;
+    private final S3DiskCache s3DiskCache;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.region}")
+    private String region;
+
+    // 로컬 S3 호환 스토리지 사용 시 공개 URL 도 해당 엔드포인트 기준으로 생성
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    // true 이면 공개 URL 을 버킷 대신 /files/** (디스크 캐시 경유) 로 생성
+    @Value("${aws.s3.serve-through-cache:false}")
+    private boolean serveThroughCache;
+
+    @Value("${storage.public-base-url:}")
+    private String publicBaseUrl;
+
+    /**
+     * 서버 경유 업로드 (비동기)
+     * 파일 스트림은 업로드 전용 스레드풀에서 읽고, 크기가 multipart 임계값 이상이면 파트 단위로 병렬 전송
+     * 업로드 스레드풀 대기열이 가득 차면 (스트림 읽기 작업 거절) 혼잡 안내 메시지로 실패
+     */
+    @Override
+    public CompletableFuture<String> uploadImage(MultipartFile file, String folder) throws IOException {
+        String fileName = folder + "/" + UUID.randomUUID() + "_" + S3Service.sanitizeFileName(file.getOriginalFilename());
+        long size = file.getSize();
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(file.getContentType())
+                .contentLength(size)
+                .build();
+
+        // 요청 스레드에서 스트림을 먼저 열어 둠 (응답 후 임시 파일이 정리되어도 열린 스트림은 유지)
+        InputStream in = file.getInputStream();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+
+        // 스트림 읽기 작업은 SDK 가 요청 본문을 구독할 때 s3UploadExecutor 에 제출되므로 거절도 future 실패로 전달됨
+        CompletableFuture<String> upload = s3AsyncClient.putObject(putObjectRequest,
+                        AsyncRequestBody.fromInputStream(in, size, s3UploadExecutor))
+                .thenApply(response -> publicUrl(fileName));
+
+        return upload.whenComplete((imageUrl, error) -> {
+            closeQuietly(in);
+            if (error != null) {
+                if (isRejected(error)) {
+                    sample.stop(uploadTimer("rejected"));
+                    log.warn("업로드 스레드풀 포화로 업로드 거절: key={}", fileName);
+                    return;
+                }
+                sample.stop(uploadTimer("failure"));
+                log.error("이미지 업로드 실패: key={}", fileName, error);
+                return;
+            }
+            sample.stop(uploadTimer("success"));
+            recordThroughput(size, System.nanoTime() - startedAt);
+            log.info("이미지 업로드 성공: {} ({} bytes)", imageUrl, size);
+        }).exceptionally(error -> {
+            if (isRejected(error)) {
+                throw new RuntimeException("업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", error);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            throw new RuntimeException("이미지 업로드에 실패했습니다: " + cause.getMessage(), cause);
+        });
+    }
+
+    /**
+     * 실패 원인 체인에 업로드 스레드풀 거절이 있는지 (SDK 가 SdkClientException 등으로 감싸서 전달)
+     */
+    private static boolean isRejected(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 브라우저가 S3 로 직접 PUT 할 수 있는 URL 발급 (Content-Type / Content-Length 를 서명에 포함)
+     */
+    @Override
+    public PresignedUploadResponse generatePresignedUploadUrl(String folder, String fileName, String contentType, long contentLength) {
+        String key = folder + "/" + UUID.randomUUID() + "_" + S3Service.sanitizeFileName(fileName);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(UPLOAD_URL_TTL)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+        return new PresignedUploadResponse(key, presigned.url().toString(), contentType, presigned.expiration());
+    }
+
+    @Override
+    public String generatePresignedDownloadUrl(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofHours(1)) // 1시간 유효
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+
+    /**
+     * 업로드된 객체 메타데이터 조회 (없으면 null)
+     */
+    @Override
+    public HeadObjectResponse headObject(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 객체 전체를 메모리로 읽기 (파생본 생성용, 업로드 크기 제한 이내의 이미지에만 사용)
+     */
+    @Override
+    public byte[] getObjectBytes(String key) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()).asByteArray();
+    }
+
+    /**
+     * 내용이 바뀌지 않는 객체(키에 내용 해시 포함) 저장, 영구 캐시 헤더를 함께 기록
+     */
+    @Override
+    public String putImmutable(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build(), RequestBody.fromBytes(content));
+        // 저장 전에 조회되어 없는 객체로 기억된 경우
+        s3DiskCache.forgetMissing(key);
+        return publicUrl(key);
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        if (serveThroughCache) {
+            return publicBaseUrl.replaceAll("/+$", "") + "/files/" + key;
+        }
+        if (endpoint != null && !endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucketName, key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    }
+
+    /**
+     * 디스크 캐시에 있으면 바로, 없으면 S3 에서 받아 캐시에 넣은 뒤 반환 (releaseLocalPath 전까지 고정)
+     */
+    @Override
+    public Path localPath(String key) throws IOException {
+        return s3DiskCache.get(key, target -> {
+            try {
+                s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build(), ResponseTransformer.toFile(target));
+                return true;
+            } catch (NoSuchKeyException e) {
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public void releaseLocalPath(String key) {
+        s3DiskCache.release(key);
+    }
+
+    @Override
+    public boolean isSendfileSafe() {
+        // 캐시 사본은 용량 초과 시 삭제되므로 고정해 둔 채 직접 전송
+        return false;
+    }
+
+    private Timer uploadTimer(String outcome) {
+        return Timer.builder("clouddoctor.s3.upload")
+                .description("S3 업로드 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void recordThroughput(long bytes, long elapsedNanos) {
+        DistributionSummary.builder("clouddoctor.s3.upload.size")
+                .description("S3 업로드 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+        if (elapsedNanos > 0) {
+            DistributionSummary.builder("clouddoctor.s3.upload.throughput")
+                    .description("S3 업로드 처리량")
+                    .baseUnit("bytes_per_second")
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            log.warn("업로드 스트림 종료 실패: {}", e.getMessage());
+        }
+    }
+}
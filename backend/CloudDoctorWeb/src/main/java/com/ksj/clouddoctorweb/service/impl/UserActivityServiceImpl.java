@@ -0,0 +1,106 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.service.UserActivityService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 로그인 / 활동 시각 기록 구현체
+ * - 사용자별 최신 시각만 메모리에 보관 (요청마다 맵 갱신 한 번, DB 쓰기 없음)
+ * - 주기적으로 맵에서 떼어 내 한 번의 JDBC 배치로 반영
+ * - GREATEST 로 기존 값보다 늦은 시각만 반영하므로 여러 노드가 각자 반영해도 순서와 무관하게 최신 값 유지
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class UserActivityServiceImpl implements UserActivityService {
+    
+    private static final int UPDATE_BATCH_SIZE = 500;
+    
+    // GREATEST 는 NULL 인자를 무시하므로 로그인 시각이 없는 항목은 기존 last_login 유지
+    private static final String UPDATE_ACTIVITY_SQL =
+        "UPDATE users SET last_login = GREATEST(last_login, ?), last_activity = GREATEST(last_activity, ?) WHERE id = ?";
+    
+    private record Activity(LocalDateTime lastLogin, LocalDateTime lastActivity) {
+        
+        Activity merge(Activity other) {
+            return new Activity(later(lastLogin, other.lastLogin), later(lastActivity, other.lastActivity));
+        }
+        
+        private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+            if (a == null) {
+                return b;
+            }
+            return b == null || a.isAfter(b) ? a : b;
+        }
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final Map<Long, Activity> pending = new ConcurrentHashMap<>();
+    
+    @Override
+    public void recordLogin(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(userId, new Activity(now, now), Activity::merge);
+    }
+    
+    @Override
+    public void recordActivity(Long userId) {
+        pending.merge(userId, new Activity(null, LocalDateTime.now()), Activity::merge);
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${user.activity.flush-interval-millis:30000}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        // 항목별로 원자적으로 떼어 냄 (반영 중 들어온 기록은 다음 주기에 반영)
+        List<Map.Entry<Long, Activity>> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            Activity activity = pending.remove(userId);
+            if (activity != null) {
+                batch.add(Map.entry(userId, activity));
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_ACTIVITY_SQL, batch, UPDATE_BATCH_SIZE, (ps, entry) -> {
+                Activity activity = entry.getValue();
+                ps.setTimestamp(1, activity.lastLogin() != null ? Timestamp.valueOf(activity.lastLogin()) : null);
+                ps.setTimestamp(2, Timestamp.valueOf(activity.lastActivity()));
+                ps.setLong(3, entry.getKey());
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 되돌려 다음 주기에 다시 시도 (그 사이 새 기록과 병합)
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Activity::merge));
+            log.warn("사용자 활동 시각 반영 실패, 다음 주기에 재시도: users={}, error={}", batch.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("사용자 활동 시각 반영: users={}", batch.size());
+        return batch.size();
+    }
+    
+    /**
+     * 종료 시 남은 기록 반영
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,304 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.ChecklistPatchRequest;
+import com.ksj.clouddoctorweb.dto.ChecklistPatchResponse;
+import com.ksj.clouddoctorweb.dto.ChecklistScoreResponse;
+import com.ksj.clouddoctorweb.dto.SaveChecklistRequest;
+import com.ksj.clouddoctorweb.entity.Checklist;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.entity.UserChecklistResult;
+import com.ksj.clouddoctorweb.exception.StaleVersionException;
+import com.ksj.clouddoctorweb.repository.ChecklistRepository;
+import com.ksj.clouddoctorweb.repository.UserChecklistItemResultRepository;
+import com.ksj.clouddoctorweb.repository.UserChecklistResultRepository;
+import com.ksj.clouddoctorweb.service.UserChecklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 체크리스트 결과 서비스 구현체
+ * 답변은 user_checklist_item_results 에 항목 단위로 JDBC 배치 upsert
+ * (IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class UserChecklistServiceImpl implements UserChecklistService {
+    
+    private static final int ITEM_BATCH_SIZE = 500;
+    
+    // 체크 여부가 바뀐 항목만 checked_at 갱신
+    private static final String UPSERT_ITEM_SQL =
+        "INSERT INTO user_checklist_item_results " +
+        "(user_checklist_result_id, checklist_id, is_checked, checked_at, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (user_checklist_result_id, checklist_id) DO UPDATE SET " +
+        "is_checked = EXCLUDED.is_checked, " +
+        "checked_at = CASE WHEN user_checklist_item_results.is_checked IS DISTINCT FROM EXCLUDED.is_checked " +
+        "THEN EXCLUDED.checked_at ELSE user_checklist_item_results.checked_at END, " +
+        "updated_at = CURRENT_TIMESTAMP";
+    
+    // 활성 체크리스트 기준 서비스별/중요도별 점수 (체크된 항목 / 전체 항목 × 100)
+    // 서비스는 service_lists.id 로 묶고 (제공자가 달라도 이름이 같은 서비스가 합쳐지지 않도록) 표시 이름은 label 로 저장
+    private static final String INSERT_SCORES_SQL =
+        "INSERT INTO user_checklist_result_scores " +
+        "(user_checklist_result_id, dimension, dimension_key, label, total_count, checked_count, score) " +
+        "SELECT ?, dimension, dimension_key, label, COUNT(*), COUNT(*) FILTER (WHERE is_checked), " +
+        "ROUND(100.0 * COUNT(*) FILTER (WHERE is_checked) / COUNT(*), 2) " +
+        "FROM (" +
+        "  SELECT 'SERVICE' AS dimension, s.id::text AS dimension_key, s.display_name AS label, " +
+        "  COALESCE(i.is_checked, false) AS is_checked " +
+        "  FROM checklists c JOIN service_lists s ON s.id = c.service_list_id " +
+        "  LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = ? " +
+        "  WHERE c.is_active = true " +
+        "  UNION ALL " +
+        "  SELECT 'IMPORTANCE', g.importance_level, g.importance_level, COALESCE(i.is_checked, false) " +
+        "  FROM checklists c JOIN guidelines g ON g.id = c.guideline_id " +
+        "  LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = ? " +
+        "  WHERE c.is_active = true" +
+        ") items GROUP BY dimension, dimension_key, label";
+    
+    private static final String UPDATE_TOTAL_SCORE_SQL =
+        "UPDATE user_checklist_results r SET total_count = t.total, checked_count = t.checked, " +
+        "score = CASE WHEN t.total = 0 THEN 0 ELSE ROUND(100.0 * t.checked / t.total, 2) END " +
+        "FROM (SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE i.is_checked) AS checked " +
+        "      FROM checklists c LEFT JOIN user_checklist_item_results i " +
+        "      ON i.checklist_id = c.id AND i.user_checklist_result_id = ? " +
+        "      WHERE c.is_active = true) t " +
+        "WHERE r.id = ? RETURNING r.total_count, r.checked_count, r.score";
+    
+    private final UserChecklistResultRepository checklistResultRepository;
+    private final UserChecklistItemResultRepository checklistItemResultRepository;
+    private final ChecklistRepository checklistRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional
+    public UserChecklistResult saveResult(User user, SaveChecklistRequest request) {
+        UserChecklistResult result = new UserChecklistResult();
+        result.setUser(user);
+        result.setResultName(request.getResultName());
+        result.setIsCompleted(true);
+        result.setCompletionDate(LocalDateTime.now());
+        UserChecklistResult saved = checklistResultRepository.save(result);
+        
+        saved.setAnswers(writeAnswers(saved.getId(), request.getAnswers(), false));
+        refreshScores(saved);
+        log.info("체크리스트 저장 완료: user={}, name={}, items={}", user.getUsername(), saved.getResultName(), saved.getAnswers().size());
+        return saved;
+    }
+    
+    @Override
+    @Transactional
+    public UserChecklistResult updateResult(User user, Long resultId, SaveChecklistRequest request) {
+        UserChecklistResult result = findOwned(user, resultId);
+        result.setResultName(request.getResultName());
+        // 답변 전체를 바꾸므로 이름이 같아도 버전 증가 (이전 버전 기준의 임시 저장분이 반영되지 않도록)
+        result.setUpdatedAt(LocalDateTime.now());
+        UserChecklistResult updated = checklistResultRepository.save(result);
+        
+        updated.setAnswers(writeAnswers(updated.getId(), request.getAnswers(), true));
+        refreshScores(updated);
+        log.info("체크리스트 수정 완료: id={}, items={}", resultId, updated.getAnswers().size());
+        return updated;
+    }
+    
+    @Override
+    @Transactional
+    public ChecklistPatchResponse patchResult(User user, Long resultId, ChecklistPatchRequest request) {
+        if (request.getVersion() == null) {
+            throw new RuntimeException("버전 정보가 필요합니다");
+        }
+        // 결과지 행은 버전/수정일만 갱신하고, 답변은 변경된 항목 행만 씀
+        int updated = checklistResultRepository.bumpVersion(resultId, user.getId(), request.getVersion(), request.getResultName());
+        if (updated == 0) {
+            Long currentVersion = checklistResultRepository.findVersion(resultId, user.getId());
+            if (currentVersion == null) {
+                throw new RuntimeException("체크리스트를 찾을 수 없습니다");
+            }
+            throw new StaleVersionException("다른 곳에서 먼저 수정된 체크리스트입니다. 새로고침 후 다시 시도해주세요", currentVersion);
+        }
+        
+        Map<Long, Boolean> changed = writeAnswers(resultId, request.getChanges(), false);
+        int removed = removeAnswers(resultId, request.getRemoved());
+        refreshScores(resultId);
+        
+        ChecklistPatchResponse response = new ChecklistPatchResponse();
+        response.setId(resultId);
+        response.setVersion(request.getVersion() + 1);
+        response.setChangedItems(changed.size());
+        response.setRemovedItems(removed);
+        return response;
+    }
+    
+    @Override
+    @Transactional
+    public boolean applyDraft(Long userId, Long resultId, Long version, Map<String, Boolean> changes, List<Long> removed) {
+        if (version == null) {
+            // 기준 버전이 없으면 그 사이 수정 여부를 확인할 수 없으므로 반영하지 않음
+            Long currentVersion = checklistResultRepository.findVersion(resultId, userId);
+            if (currentVersion == null) {
+                return false;
+            }
+            throw new StaleVersionException("임시 저장 기준 버전이 없는 체크리스트입니다", currentVersion);
+        }
+        if (checklistResultRepository.bumpVersion(resultId, userId, version, null) == 0) {
+            Long currentVersion = checklistResultRepository.findVersion(resultId, userId);
+            if (currentVersion == null) {
+                return false;
+            }
+            throw new StaleVersionException("임시 저장 이후 다른 곳에서 수정된 체크리스트입니다", currentVersion);
+        }
+        writeAnswers(resultId, changes, false);
+        removeAnswers(resultId, removed);
+        refreshScores(resultId);
+        return true;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ChecklistScoreResponse getScores(User user, Long resultId) {
+        UserChecklistResult result = findOwned(user, resultId);
+        ChecklistScoreResponse response = new ChecklistScoreResponse();
+        response.setResultId(resultId);
+        response.setTotalCount(result.getTotalCount());
+        response.setCheckedCount(result.getCheckedCount());
+        response.setScore(result.getScore());
+        jdbcTemplate.query(
+            "SELECT dimension, dimension_key, label, total_count, checked_count, score FROM user_checklist_result_scores " +
+            "WHERE user_checklist_result_id = ? ORDER BY dimension, label, dimension_key",
+            rs -> {
+                ChecklistScoreResponse.Score score = new ChecklistScoreResponse.Score();
+                score.setKey(rs.getString("dimension_key"));
+                score.setLabel(rs.getString("label"));
+                score.setTotalCount(rs.getInt("total_count"));
+                score.setCheckedCount(rs.getInt("checked_count"));
+                score.setScore(rs.getBigDecimal("score"));
+                if ("SERVICE".equals(rs.getString("dimension"))) {
+                    response.getByService().add(score);
+                } else {
+                    response.getByImportance().add(score);
+                }
+            },
+            resultId);
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public UserChecklistResult getResult(User user, Long resultId) {
+        UserChecklistResult result = findOwned(user, resultId);
+        Map<Long, Boolean> answers = new LinkedHashMap<>();
+        for (UserChecklistItemResultRepository.AnswerRow row : checklistItemResultRepository.findAnswersByResultId(resultId)) {
+            answers.put(row.getChecklistId(), row.getIsChecked());
+        }
+        result.setAnswers(answers);
+        return result;
+    }
+    
+    private UserChecklistResult findOwned(User user, Long resultId) {
+        UserChecklistResult result = checklistResultRepository.findById(resultId)
+            .orElseThrow(() -> new RuntimeException("체크리스트를 찾을 수 없습니다"));
+        if (!result.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("권한이 없습니다");
+        }
+        return result;
+    }
+    
+    /**
+     * 답변 맵을 항목 행으로 배치 upsert
+     * @param replace true 면 요청에 없는 기존 항목 삭제
+     */
+    private Map<Long, Boolean> writeAnswers(Long resultId, Map<String, Boolean> rawAnswers, boolean replace) {
+        Map<Long, Boolean> answers = toValidAnswers(rawAnswers);
+        
+        if (replace) {
+            Long[] keep = answers.keySet().toArray(new Long[0]);
+            jdbcTemplate.update(connection -> {
+                var ps = connection.prepareStatement(
+                    "DELETE FROM user_checklist_item_results WHERE user_checklist_result_id = ? AND checklist_id <> ALL (?)");
+                ps.setLong(1, resultId);
+                ps.setArray(2, connection.createArrayOf("bigint", keep));
+                return ps;
+            });
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, Boolean>> entries = new ArrayList<>(answers.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, entries, ITEM_BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, resultId);
+            ps.setLong(2, entry.getKey());
+            ps.setBoolean(3, entry.getValue());
+            ps.setTimestamp(4, now);
+        });
+        return answers;
+    }
+    
+    /**
+     * 답변 저장 직후 점수 재계산 (활성 체크리스트 수만큼만 집계, 결과지 엔티티에도 반영)
+     */
+    private void refreshScores(UserChecklistResult result) {
+        Object[] totals = refreshScores(result.getId());
+        result.setTotalCount((Integer) totals[0]);
+        result.setCheckedCount((Integer) totals[1]);
+        result.setScore((BigDecimal) totals[2]);
+    }
+    
+    private Object[] refreshScores(Long resultId) {
+        jdbcTemplate.update("DELETE FROM user_checklist_result_scores WHERE user_checklist_result_id = ?", resultId);
+        jdbcTemplate.update(INSERT_SCORES_SQL, resultId, resultId, resultId);
+        return jdbcTemplate.queryForObject(UPDATE_TOTAL_SCORE_SQL,
+            (rs, rowNum) -> new Object[]{rs.getInt(1), rs.getInt(2), rs.getBigDecimal(3)},
+            resultId, resultId);
+    }
+    
+    private int removeAnswers(Long resultId, List<Long> removed) {
+        if (removed == null || removed.isEmpty()) {
+            return 0;
+        }
+        Long[] removedIds = removed.toArray(new Long[0]);
+        return jdbcTemplate.update(connection -> {
+            var ps = connection.prepareStatement(
+                "DELETE FROM user_checklist_item_results WHERE user_checklist_result_id = ? AND checklist_id = ANY (?)");
+            ps.setLong(1, resultId);
+            ps.setArray(2, connection.createArrayOf("bigint", removedIds));
+            return ps;
+        });
+    }
+    
+    /**
+     * 숫자 키이면서 실제 존재하는 체크리스트 항목만 남김 (FK 위반 방지)
+     */
+    private Map<Long, Boolean> toValidAnswers(Map<String, Boolean> rawAnswers) {
+        Map<Long, Boolean> parsed = new LinkedHashMap<>();
+        if (rawAnswers == null) {
+            return parsed;
+        }
+        rawAnswers.forEach((key, value) -> {
+            if (key != null && value != null && key.matches("\\d+")) {
+                parsed.put(Long.parseLong(key), value);
+            }
+        });
+        if (parsed.isEmpty()) {
+            return parsed;
+        }
+        Set<Long> existing = checklistRepository.findAllById(parsed.keySet()).stream()
+            .map(Checklist::getId)
+            .collect(Collectors.toSet());
+        parsed.keySet().retainAll(existing);
+        return parsed;
+    }
+}
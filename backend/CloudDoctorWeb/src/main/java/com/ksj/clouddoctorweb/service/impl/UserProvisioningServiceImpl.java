@@ -0,0 +1,267 @@
+package com.ksj.clouddoctorweb.service.impl;
+
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionReport;
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionReport.Status;
+import com.ksj.clouddoctorweb.dto.BulkUserProvisionRequest;
+import com.ksj.clouddoctorweb.dto.RegisterRequest;
+import com.ksj.clouddoctorweb.service.UserProvisioningService;
+import com.ksj.clouddoctorweb.util.ExternalIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 일괄 생성 구현체
+ * 1. 항목 검증 + 요청 안 중복 확인 (메모리)
+ * 2. 기존 아이디/이메일 중복 확인 (username = ANY / email = ANY 한 번의 조회)
+ * 3. BCrypt 해시를 전용 스레드풀에서 병렬 계산 (트랜잭션/커넥션을 잡지 않음)
+ * 4. 한 트랜잭션 안에서 JDBC 배치 insert (동시 가입과 겹치면 ON CONFLICT 로 건너뛰고 DUPLICATE 처리)
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (username, email, password, full_name, company, role, external_id, created_at, updated_at, is_active, is_verified) " +
+        "VALUES (?, ?, ?, ?, ?, 'USER', ?, ?, ?, true, false) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.provision.max-users:5000}")
+    private int maxUsers;
+
+    // 0 이면 CPU 코어 수
+    @Value("${user.provision.hash-threads:0}")
+    private int hashThreads;
+
+    private ExecutorService hashExecutor;
+    private int hashParallelism;
+
+    @PostConstruct
+    void init() {
+        hashParallelism = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        hashExecutor = Executors.newFixedThreadPool(hashParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    @Override
+    public BulkUserProvisionReport provision(BulkUserProvisionRequest request) {
+        List<RegisterRequest> users = request.getUsers();
+        if (users == null || users.isEmpty()) {
+            throw new RuntimeException("생성할 사용자가 없습니다");
+        }
+        if (users.size() > maxUsers) {
+            throw new RuntimeException("한 번에 생성할 수 있는 사용자는 " + maxUsers + "명까지입니다");
+        }
+        long startedAt = System.currentTimeMillis();
+
+        // 항목별 결과 (null 이면 아직 생성 대상)
+        BulkUserProvisionReport.Row[] rows = new BulkUserProvisionReport.Row[users.size()];
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            RegisterRequest user = users.get(i);
+            String error = validate(user);
+            if (error != null) {
+                rows[i] = new BulkUserProvisionReport.Row(i, user != null ? user.getUsername() : null, Status.ERROR, null, error);
+            } else if (!usernames.add(user.getUsername())) {
+                rows[i] = new BulkUserProvisionReport.Row(i, user.getUsername(), Status.DUPLICATE, null, "요청 안에서 중복된 아이디입니다");
+            } else if (!emails.add(user.getEmail())) {
+                rows[i] = new BulkUserProvisionReport.Row(i, user.getUsername(), Status.DUPLICATE, null, "요청 안에서 중복된 이메일입니다");
+            }
+        }
+
+        markExisting(users, rows, usernames, emails);
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] == null) {
+                pending.add(i);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            String[] hashes = hashPasswords(users, pending);
+            insert(users, pending, hashes, rows, request.getCompany());
+        }
+
+        BulkUserProvisionReport report = new BulkUserProvisionReport();
+        for (BulkUserProvisionReport.Row row : rows) {
+            report.add(row);
+        }
+        log.info("사용자 일괄 생성: total={}, counts={}, {}ms", report.getTotal(), report.getCounts(),
+            System.currentTimeMillis() - startedAt);
+        return report;
+    }
+
+    /**
+     * 이미 사용 중인 아이디/이메일을 한 번의 조회로 확인
+     */
+    private void markExisting(List<RegisterRequest> users, BulkUserProvisionReport.Row[] rows,
+                              Set<String> usernames, Set<String> emails) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(
+                "SELECT username, email FROM users WHERE username = ANY (?) OR email = ANY (?)");
+            ps.setArray(1, connection.createArrayOf("varchar", usernames.toArray()));
+            ps.setArray(2, connection.createArrayOf("varchar", emails.toArray()));
+            return ps;
+        }, rs -> {
+            existingUsernames.add(rs.getString("username"));
+            existingEmails.add(rs.getString("email"));
+        });
+
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] != null) {
+                continue;
+            }
+            RegisterRequest user = users.get(i);
+            if (existingUsernames.contains(user.getUsername())) {
+                rows[i] = new BulkUserProvisionReport.Row(i, user.getUsername(), Status.DUPLICATE, null, "이미 존재하는 아이디입니다");
+            } else if (existingEmails.contains(user.getEmail())) {
+                rows[i] = new BulkUserProvisionReport.Row(i, user.getUsername(), Status.DUPLICATE, null, "이미 사용 중인 이메일입니다");
+            }
+        }
+    }
+
+    /**
+     * 생성 대상 비밀번호를 스레드 수만큼 나누어 병렬 해시
+     * 스레드풀은 모든 일괄 생성 요청이 공유하므로 동시에 여러 요청이 와도 CPU 사용량은 스레드 수로 제한
+     */
+    private String[] hashPasswords(List<RegisterRequest> users, List<Integer> pending) {
+        String[] hashes = new String[users.size()];
+        int chunkSize = (pending.size() + hashParallelism - 1) / hashParallelism;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            tasks.add(() -> {
+                for (int index : chunk) {
+                    hashes[index] = passwordEncoder.encode(users.get(index).getPassword());
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : hashExecutor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 처리가 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("비밀번호 처리에 실패했습니다: " + e.getCause().getMessage(), e.getCause());
+        }
+        return hashes;
+    }
+
+    private void insert(List<RegisterRequest> users, List<Integer> pending, String[] hashes,
+                        BulkUserProvisionReport.Row[] rows, String defaultCompany) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, pending, INSERT_BATCH_SIZE, (ps, index) -> {
+                RegisterRequest user = users.get(index);
+                String company = user.getCompany() != null && !user.getCompany().isBlank() ? user.getCompany() : defaultCompany;
+                ps.setString(1, user.getUsername());
+                ps.setString(2, user.getEmail());
+                ps.setString(3, hashes[index]);
+                ps.setString(4, user.getFullName());
+                ps.setString(5, company);
+                ps.setString(6, ExternalIdGenerator.generate());
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            });
+
+            // 생성된 사용자 ID (배치 insert 는 키를 돌려주지 않으므로 한 번 더 조회)
+            Map<String, Long> ids = new HashMap<>();
+            String[] pendingUsernames = pending.stream().map(index -> users.get(index).getUsername()).toArray(String[]::new);
+            jdbcTemplate.query(connection -> {
+                var ps = connection.prepareStatement("SELECT id, username FROM users WHERE username = ANY (?)");
+                ps.setArray(1, connection.createArrayOf("varchar", pendingUsernames));
+                return ps;
+            }, rs -> {
+                ids.put(rs.getString("username"), rs.getLong("id"));
+            });
+
+            int position = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    int index = pending.get(position++);
+                    String username = users.get(index).getUsername();
+                    // 0 이면 확인 이후 다른 요청이 같은 아이디/이메일로 먼저 가입한 경우 (SUCCESS_NO_INFO 는 성공)
+                    if (count == 0) {
+                        rows[index] = new BulkUserProvisionReport.Row(index, username, Status.DUPLICATE, null, "이미 존재하는 아이디 또는 이메일입니다");
+                    } else if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        rows[index] = new BulkUserProvisionReport.Row(index, username, Status.CREATED, ids.get(username), null);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 회원가입과 같은 규칙 + 컬럼 길이 검증
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private static String validate(RegisterRequest user) {
+        if (user == null) {
+            return "빈 항목입니다";
+        }
+        if (isBlank(user.getUsername()) || isBlank(user.getEmail()) || isBlank(user.getPassword()) || isBlank(user.getFullName())) {
+            return "아이디, 이메일, 비밀번호, 이름은 필수입니다";
+        }
+        if (!user.getEmail().contains("@")) {
+            return "올바른 이메일 형식이 아닙니다.";
+        }
+        if (user.getUsername().length() > 50 || user.getEmail().length() > 100 || user.getFullName().length() > 100
+            || (user.getCompany() != null && user.getCompany().length() > 150)) {
+            return "입력 값이 너무 깁니다";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ksj.clouddoctorweb.util;
+
+import java.util.List;
+
+/**
+ * infraaudit 점검 항목 ID 목록
+ * infraaudit/app/services/audit_service.py 의 check_registry 와 동일하게 유지해야 함
+ */
+public class AuditCheckIds {
+
+    public static final List<String> ALL = List.of(
+        "EC2IMDSv2Check",
+        "EC2AMIPrivateCheck",
+        "EBSSnapshotPrivateCheck",
+        "S3PublicAccessAndPolicyCheck",
+        "S3ACLCheck",
+        "S3ReplicationRuleCheck",
+        "IAMTrustPolicyWildcardCheck",
+        "IAMIdPAssumeRoleCheck",
+        "IAMCrossAccountAssumeRoleCheck",
+        "IAMAccessKeyAgeCheck",
+        "IAMRootAccessKeyCheck",
+        "IAMMFACheck",
+        "EKSIRSARoleCheck",
+        "KMSImportedKeyMaterialCheck",
+        "IAMRoleCloudFormationPassRoleCheck",
+        "CloudTrailManagementEventsCheck",
+        "CloudTrailLoggingCheck",
+        "CognitoTokenExpirationCheck",
+        "ElasticBeanstalkCredentialsCheck",
+        "IAMGluePassRoleCheck",
+        "GuardDutyStatusCheck",
+        "OpenSearchSecurityCheck",
+        "OpenSearchVPCAccessCheck",
+        "OrganizationsSCPCheck",
+        "RDSPublicAccessibilityCheck",
+        "SNSAccessPolicyCheck",
+        "SQSAccessPolicyCheck",
+        "SESOverlyPermissiveCheck",
+        "IAMSSMCommandPolicyCheck",
+        "SSMDocumentPublicAccessCheck",
+        "BedrockModelAccessCheck",
+        "AppStreamOverlyPermissiveCheck",
+        "SecurityGroupRemoteAccessCheck",
+        "S3EncryptionCheck",
+        "ECRRepositorySecurityCheck",
+        "RedshiftEncryptionCheck",
+        "DocumentDBSnapshotPrivateCheck",
+        "DocumentDBEncryptionCheck",
+        "RDSSnapshotPublicAccessCheck"
+    );
+
+    // 점검 항목 ID 접두어 → AWS 서비스 (긴 접두어 우선)
+    private static final List<String[]> SERVICE_PREFIXES = List.of(
+        new String[]{"SecurityGroup", "EC2"},
+        new String[]{"ElasticBeanstalk", "ElasticBeanstalk"},
+        new String[]{"Organizations", "Organizations"},
+        new String[]{"CloudTrail", "CloudTrail"},
+        new String[]{"DocumentDB", "DocumentDB"},
+        new String[]{"OpenSearch", "OpenSearch"},
+        new String[]{"GuardDuty", "GuardDuty"},
+        new String[]{"AppStream", "AppStream"},
+        new String[]{"Redshift", "Redshift"},
+        new String[]{"Bedrock", "Bedrock"},
+        new String[]{"Cognito", "Cognito"},
+        new String[]{"EC2", "EC2"},
+        new String[]{"EBS", "EC2"},
+        new String[]{"EKS", "EKS"},
+        new String[]{"ECR", "ECR"},
+        new String[]{"KMS", "KMS"},
+        new String[]{"IAM", "IAM"},
+        new String[]{"RDS", "RDS"},
+        new String[]{"SNS", "SNS"},
+        new String[]{"SQS", "SQS"},
+        new String[]{"SES", "SES"},
+        new String[]{"SSM", "SSM"},
+        new String[]{"S3", "S3"}
+    );
+
+    /**
+     * 점검 항목이 속한 AWS 서비스 (알 수 없으면 "Other")
+     */
+    public static String serviceOf(String checkId) {
+        if (checkId != null) {
+            for (String[] prefix : SERVICE_PREFIXES) {
+                if (checkId.startsWith(prefix[0])) {
+                    return prefix[1];
+                }
+            }
+        }
+        return "Other";
+    }
+
+    private AuditCheckIds() {
+    }
+}
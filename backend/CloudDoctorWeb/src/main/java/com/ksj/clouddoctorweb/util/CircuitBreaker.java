@@ -0,0 +1,101 @@
+package com.ksj.clouddoctorweb.util;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+
+/**
+ * 인프로세스 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 호출 즉시 차단, openDuration 경과 후 HALF_OPEN
+ * - HALF_OPEN: 탐침 호출 한 건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+@Log4j2
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean probeInFlight = false;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 종료)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 의존 서비스 장애와 무관한 실패 (사용자 입력 오류 등) - 상태 변화 없이 허용 슬롯만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            // 탐침 호출이 서비스 응답을 받았으므로 서비스는 살아있는 것으로 판단
+            onSuccess();
+        }
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태에서 다음 탐침까지 남은 시간 (초)
+     */
+    public synchronized long getRemainingOpenSeconds() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long remaining = openDurationMillis - (System.currentTimeMillis() - openedAt);
+        return Math.max(1, (remaining + 999) / 1000);
+    }
+
+    private void transitionTo(State next) {
+        log.warn("서킷 브레이커 상태 변경: name={}, {} -> {}, consecutiveFailures={}", name, state, next, consecutiveFailures);
+        state = next;
+    }
+}
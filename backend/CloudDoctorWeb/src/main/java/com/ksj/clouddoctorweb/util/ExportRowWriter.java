@@ -0,0 +1,112 @@
+package com.ksj.clouddoctorweb.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내보내기 행 단위 작성기 (CSV / NDJSON)
+ * 행을 받는 즉시 버퍼를 거쳐 응답 스트림으로 내보내므로 전체 결과를 메모리에 올리지 않음
+ */
+public class ExportRowWriter {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final Writer writer;
+    private final Format format;
+    private final List<String> columns;
+    private final ObjectMapper objectMapper;
+    private long rowCount;
+
+    public ExportRowWriter(OutputStream out, Format format, List<String> columns, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.format = format;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CSV 는 엑셀에서 한글이 깨지지 않도록 BOM 과 헤더를 먼저 기록
+     */
+    public void writeHeader() {
+        if (format != Format.CSV) {
+            return;
+        }
+        try {
+            writer.write('\uFEFF');
+            writeCsvLine(columns.toArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeRow(Object... values) {
+        try {
+            if (format == Format.CSV) {
+                writeCsvLine(values);
+            } else {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    row.put(columns.get(i), values[i]);
+                }
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            // 주기적으로 내보내 클라이언트가 바로 수신할 수 있도록 함
+            if (++rowCount % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rowCount;
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 이스케이프 + 스프레드시트 수식 삽입 방지 (=, +, -, @ 로 시작하는 문자열 앞에 ' 추가)
+     */
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,20 @@
+-- 서비스별 점수를 표시 이름이 아닌 service_lists.id 로 구분 (제공자가 달라도 이름이 같은 서비스가 합쳐지지 않도록)
+-- dimension_key: SERVICE 는 service_lists.id, IMPORTANCE 는 중요도 / label: 화면 표시용 이름
+ALTER TABLE user_checklist_result_scores ADD COLUMN label VARCHAR(100);
+UPDATE user_checklist_result_scores SET label = dimension_key;
+
+-- 기존 서비스별 점수는 새 기준으로 다시 계산
+DELETE FROM user_checklist_result_scores WHERE dimension = 'SERVICE';
+INSERT INTO user_checklist_result_scores
+    (user_checklist_result_id, dimension, dimension_key, label, total_count, checked_count, score)
+SELECT r.id, 'SERVICE', s.id::text, s.display_name, COUNT(*),
+       COUNT(*) FILTER (WHERE COALESCE(i.is_checked, false)),
+       ROUND(100.0 * COUNT(*) FILTER (WHERE COALESCE(i.is_checked, false)) / COUNT(*), 2)
+FROM user_checklist_results r
+CROSS JOIN checklists c
+JOIN service_lists s ON s.id = c.service_list_id
+LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = r.id
+WHERE c.is_active = true
+GROUP BY r.id, s.id, s.display_name;
+
+ALTER TABLE user_checklist_result_scores ALTER COLUMN label SET NOT NULL;
@@ -0,0 +1,32 @@
+-- Audit runs table (인프라 점검 실행 이력)
+CREATE TABLE audit_runs (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    account_id VARCHAR(20) NOT NULL,
+    audit_id VARCHAR(100), -- infraaudit 가 발급한 점검 ID
+    status VARCHAR(20) NOT NULL,
+    total_count INT DEFAULT 0 NOT NULL,
+    pass_count INT DEFAULT 0 NOT NULL,
+    fail_count INT DEFAULT 0 NOT NULL,
+    warn_count INT DEFAULT 0 NOT NULL,
+    error_count INT DEFAULT 0 NOT NULL,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Audit findings table (점검 실행별 개별 결과, check_id + resource_id 로 실행 간 비교)
+CREATE TABLE audit_findings (
+    id BIGSERIAL PRIMARY KEY,
+    audit_run_id BIGINT NOT NULL REFERENCES audit_runs(id) ON DELETE CASCADE,
+    check_id VARCHAR(100) NOT NULL,
+    resource_id TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    message TEXT,
+    details TEXT -- JSON
+);
+
+-- Create indexes
+CREATE INDEX idx_audit_runs_user_account ON audit_runs(user_id, account_id, created_at DESC);
+-- 실행 간 diff 는 (check_id, resource_id) 바이트 순서 정렬 스트림을 병합 비교하므로 동일 정렬의 인덱스 사용
+CREATE INDEX idx_audit_findings_run_key ON audit_findings(audit_run_id, check_id COLLATE "C", resource_id COLLATE "C");
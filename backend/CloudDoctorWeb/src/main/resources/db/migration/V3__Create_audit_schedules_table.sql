@@ -0,0 +1,21 @@
+-- Audit schedules table (정기 인프라 점검 등록)
+CREATE TABLE audit_schedules (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    account_id VARCHAR(20) NOT NULL,
+    role_name VARCHAR(100) NOT NULL,
+    frequency VARCHAR(10) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY')),
+    day_of_week INT CHECK (day_of_week BETWEEN 1 AND 7), -- WEEKLY 전용 (1=월 ~ 7=일)
+    hour_of_day INT NOT NULL CHECK (hour_of_day BETWEEN 0 AND 23),
+    enabled BOOLEAN DEFAULT TRUE NOT NULL,
+    next_run_at TIMESTAMP NOT NULL, -- 지터가 반영된 다음 실행 시각
+    last_run_at TIMESTAMP,
+    last_job_id VARCHAR(36),
+    last_status VARCHAR(20),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes
+CREATE INDEX idx_audit_schedules_user ON audit_schedules(user_id);
+CREATE INDEX idx_audit_schedules_due ON audit_schedules(next_run_at) WHERE enabled = TRUE;
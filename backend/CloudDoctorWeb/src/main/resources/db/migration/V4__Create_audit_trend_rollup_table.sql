@@ -0,0 +1,20 @@
+-- Audit check daily rollups (점검 항목별 일 단위 집계, 점검 완료 시 증분 갱신)
+-- 같은 날 여러 번 점검하면 마지막 점검 결과로 덮어씀 (그날의 최종 상태)
+CREATE TABLE audit_check_daily_rollups (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    account_id VARCHAR(20) NOT NULL,
+    check_id VARCHAR(100) NOT NULL,
+    service VARCHAR(50) NOT NULL,
+    day DATE NOT NULL,
+    pass_count INT DEFAULT 0 NOT NULL,
+    fail_count INT DEFAULT 0 NOT NULL,
+    warn_count INT DEFAULT 0 NOT NULL,
+    error_count INT DEFAULT 0 NOT NULL,
+    run_count INT DEFAULT 1 NOT NULL,
+    last_run_id BIGINT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, account_id, check_id, day)
+);
+
+-- Create indexes
+CREATE INDEX idx_audit_rollups_user_day ON audit_check_daily_rollups(user_id, day);
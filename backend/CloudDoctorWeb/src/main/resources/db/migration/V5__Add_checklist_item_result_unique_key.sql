@@ -0,0 +1,35 @@
+-- 점검 결과지 내 체크리스트 항목은 1건만 존재 (항목 단위 upsert 기준)
+DELETE FROM user_checklist_item_results a
+    USING user_checklist_item_results b
+    WHERE a.user_checklist_result_id = b.user_checklist_result_id
+      AND a.checklist_id = b.checklist_id
+      AND a.id < b.id;
+
+ALTER TABLE user_checklist_item_results
+    ADD CONSTRAINT uk_user_checklist_item_results_result_checklist UNIQUE (user_checklist_result_id, checklist_id);
+
+-- 기존 결과지의 notes(JSON 답변 맵)를 항목 행으로 이전
+INSERT INTO user_checklist_item_results (user_checklist_result_id, checklist_id, is_checked, checked_at, created_at, updated_at)
+SELECT r.id, answer.key::BIGINT, answer.value::BOOLEAN, r.completion_date, r.created_at, r.updated_at
+FROM user_checklist_results r
+    CROSS JOIN LATERAL jsonb_each_text(r.notes::jsonb) AS answer
+WHERE r.notes LIKE '{%'
+  AND answer.key ~ '^[0-9]+$'
+  AND answer.value IN ('true', 'false')
+  AND EXISTS (SELECT 1 FROM checklists c WHERE c.id::TEXT = answer.key)
+ON CONFLICT (user_checklist_result_id, checklist_id) DO NOTHING;
+
+-- 모든 답변이 항목 행과 같은 값으로 남아 있는 결과지만 notes 정리
+-- (null/boolean 이 아닌 값, 삭제된 체크리스트 ID 등 이전하지 못한 답변이 있으면 notes 를 그대로 보존)
+UPDATE user_checklist_results r SET notes = NULL
+WHERE r.notes LIKE '{%'
+  AND NOT EXISTS (
+      SELECT 1
+      FROM jsonb_each_text(r.notes::jsonb) AS answer
+      WHERE NOT EXISTS (
+          SELECT 1 FROM user_checklist_item_results i
+          WHERE i.user_checklist_result_id = r.id
+            AND i.checklist_id::TEXT = answer.key
+            AND i.is_checked::TEXT = answer.value
+      )
+  );
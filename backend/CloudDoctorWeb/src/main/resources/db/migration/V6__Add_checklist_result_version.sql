@@ -0,0 +1,2 @@
+-- 점검 결과지 버전 (부분 수정 시 오래된 버전 기준의 쓰기 거부)
+ALTER TABLE user_checklist_results ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,54 @@
+-- 점검 결과지 점수 (저장 시 계산, 목록 조회 시 답변 없이 바로 표시)
+ALTER TABLE user_checklist_results ADD COLUMN total_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE user_checklist_results ADD COLUMN checked_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE user_checklist_results ADD COLUMN score NUMERIC(5, 2) DEFAULT 0 NOT NULL;
+
+-- 서비스별 / 중요도별 점수
+CREATE TABLE user_checklist_result_scores (
+    user_checklist_result_id BIGINT NOT NULL REFERENCES user_checklist_results(id) ON DELETE CASCADE,
+    dimension VARCHAR(20) NOT NULL CHECK (dimension IN ('SERVICE', 'IMPORTANCE')),
+    dimension_key VARCHAR(100) NOT NULL,
+    total_count INT NOT NULL,
+    checked_count INT NOT NULL,
+    score NUMERIC(5, 2) NOT NULL,
+    PRIMARY KEY (user_checklist_result_id, dimension, dimension_key)
+);
+
+-- 기존 결과지 점수 채우기 (저장 시 계산과 같은 기준: 활성 체크리스트 전체, 답변 없는 항목은 미체크)
+UPDATE user_checklist_results r
+SET total_count = t.total,
+    checked_count = t.checked,
+    score = CASE WHEN t.total = 0 THEN 0 ELSE ROUND(100.0 * t.checked / t.total, 2) END
+FROM (
+    SELECT r2.id AS result_id,
+           COUNT(c.id) AS total,
+           COUNT(c.id) FILTER (WHERE i.is_checked) AS checked
+    FROM user_checklist_results r2
+    LEFT JOIN checklists c ON c.is_active = true
+    LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = r2.id
+    GROUP BY r2.id
+) t
+WHERE r.id = t.result_id;
+
+INSERT INTO user_checklist_result_scores
+    (user_checklist_result_id, dimension, dimension_key, total_count, checked_count, score)
+SELECT result_id, dimension, dimension_key, COUNT(*),
+       COUNT(*) FILTER (WHERE is_checked),
+       ROUND(100.0 * COUNT(*) FILTER (WHERE is_checked) / COUNT(*), 2)
+FROM (
+    SELECT r.id AS result_id, 'SERVICE' AS dimension, s.display_name AS dimension_key,
+           COALESCE(i.is_checked, false) AS is_checked
+    FROM user_checklist_results r
+    CROSS JOIN checklists c
+    JOIN service_lists s ON s.id = c.service_list_id
+    LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = r.id
+    WHERE c.is_active = true
+    UNION ALL
+    SELECT r.id, 'IMPORTANCE', g.importance_level, COALESCE(i.is_checked, false)
+    FROM user_checklist_results r
+    CROSS JOIN checklists c
+    JOIN guidelines g ON g.id = c.guideline_id
+    LEFT JOIN user_checklist_item_results i ON i.checklist_id = c.id AND i.user_checklist_result_id = r.id
+    WHERE c.is_active = true
+) items
+GROUP BY result_id, dimension, dimension_key;
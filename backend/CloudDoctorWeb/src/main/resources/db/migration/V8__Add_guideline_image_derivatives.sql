@@ -0,0 +1,5 @@
+-- 가이드라인 조치방안 이미지 파생본 (업로드 후 백그라운드에서 한 번 생성)
+-- 원본 내용 해시를 객체 키에 포함하므로 파생본은 영구 캐시 가능
+ALTER TABLE guideline_solution_images ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE guideline_solution_images ADD COLUMN thumbnail_url TEXT;
+ALTER TABLE guideline_solution_images ADD COLUMN medium_url TEXT;
@@ -0,0 +1,2 @@
+-- 사용자 마지막 활동 시각 (last_login 과 함께 메모리에 모아 두었다가 주기적으로 배치 반영)
+ALTER TABLE users ADD COLUMN last_activity TIMESTAMP;
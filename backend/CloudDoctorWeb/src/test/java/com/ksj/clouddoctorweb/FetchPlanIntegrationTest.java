@@ -0,0 +1,220 @@
+package com.ksj.clouddoctorweb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksj.clouddoctorweb.dto.ChecklistResponse;
+import com.ksj.clouddoctorweb.dto.ServiceListResponse;
+import com.ksj.clouddoctorweb.entity.Checklist;
+import com.ksj.clouddoctorweb.entity.CloudProvider;
+import com.ksj.clouddoctorweb.entity.Guideline;
+import com.ksj.clouddoctorweb.entity.ServiceList;
+import com.ksj.clouddoctorweb.entity.User;
+import com.ksj.clouddoctorweb.repository.ChecklistRepository;
+import com.ksj.clouddoctorweb.repository.CloudProviderRepository;
+import com.ksj.clouddoctorweb.repository.GuidelineRepository;
+import com.ksj.clouddoctorweb.repository.ServiceListRepository;
+import com.ksj.clouddoctorweb.repository.UserRepository;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * open-in-view 비활성화 후 페치 플랜 검증
+ * 테스트 메서드는 트랜잭션 밖에서 실행되므로, 레포지토리 조회 이후의 지연 로딩은 LazyInitializationException 으로 실패
+ * 엔티티를 그대로 반환하는 API 는 MockMvc 로 호출하여 응답 직렬화까지 확인 (데이터는 테스트마다 직접 만들고 삭제)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FetchPlanIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CloudProviderRepository cloudProviderRepository;
+
+    @Autowired
+    private ServiceListRepository serviceListRepository;
+
+    @Autowired
+    private GuidelineRepository guidelineRepository;
+
+    @Autowired
+    private ChecklistRepository checklistRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    private User user;
+    private CloudProvider provider;
+    private ServiceList service;
+    private Guideline guideline;
+    private Checklist checklist;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        user = new User();
+        user.setUsername("fetchplan-" + suffix);
+        user.setEmail("fetchplan-" + suffix + "@example.com");
+        user.setPassword("{noop}password");
+        user.setFullName("페치 플랜 테스트");
+        user.setExternalId(UUID.randomUUID().toString());
+        user = userRepository.save(user);
+
+        provider = new CloudProvider();
+        provider.setName("fp-" + suffix);
+        provider.setDisplayName("Fetch Plan " + suffix);
+        provider = cloudProviderRepository.save(provider);
+
+        service = new ServiceList();
+        service.setCloudProvider(provider);
+        service.setName("fp-service-" + suffix);
+        service.setDisplayName("Fetch Plan Service");
+        service = serviceListRepository.save(service);
+
+        guideline = new Guideline();
+        guideline.setTitle("페치 플랜 가이드라인 " + suffix);
+        guideline.setCloudProvider(provider);
+        guideline.setServiceList(service);
+        guideline.setImportanceLevel("중요");
+        guideline.setWhyDangerous("테스트");
+        guideline.setWhatHappens("테스트");
+        guideline.setCreatedBy(user);
+        guideline = guidelineRepository.save(guideline);
+
+        checklist = new Checklist();
+        checklist.setCloudProvider(provider);
+        checklist.setServiceList(service);
+        checklist.setGuideline(guideline);
+        checklist.setTitle("페치 플랜 체크리스트 " + suffix);
+        checklist.setCreatedBy(user);
+        checklist = checklistRepository.save(checklist);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // 결과지 삭제 시 답변/점수는 FK CASCADE 로 함께 삭제
+        jdbcTemplate.update("DELETE FROM user_checklist_results WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM checklists WHERE id = ?", checklist.getId());
+        jdbcTemplate.update("DELETE FROM guidelines WHERE id = ?", guideline.getId());
+        jdbcTemplate.update("DELETE FROM service_lists WHERE id = ?", service.getId());
+        jdbcTemplate.update("DELETE FROM cloud_providers WHERE id = ?", provider.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void openInViewDisabled() {
+        assertFalse(openInView);
+    }
+
+    @Test
+    void serviceListFetchPlanCoversResponse() {
+        List<ServiceList> services = serviceListRepository.findAllByOrderByIdAsc();
+
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(
+            services.stream().map(ServiceListResponse::from).toList()));
+        assertDoesNotThrow(() -> ServiceListResponse.from(
+            serviceListRepository.findWithCloudProviderById(service.getId()).orElseThrow()));
+    }
+
+    @Test
+    void checklistFetchPlanCoversResponse() {
+        List<Checklist> checklists = checklistRepository.findAllByOrderByIdAsc();
+
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(
+            checklists.stream().map(ChecklistResponse::from).toList()));
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(
+            checklistRepository.findAllActiveOrderedByProviderServiceGuideline().stream()
+                .map(ChecklistResponse::from)
+                .toList()));
+        assertDoesNotThrow(() -> ChecklistResponse.from(
+            checklistRepository.findWithAssociationsById(checklist.getId()).orElseThrow()));
+    }
+
+    @Test
+    void lazyLoadOutsideTransactionFails() {
+        // 페치 플랜 없는 조회는 세션이 닫힌 뒤 연관 엔티티 접근 시 실패해야 함 (세션이 요청 끝까지 열려 있지 않음을 확인)
+        ServiceList loaded = serviceListRepository.findById(service.getId()).orElseThrow();
+
+        assertThrows(LazyInitializationException.class,
+            () -> loaded.getCloudProvider().getName());
+    }
+
+    @Test
+    void userChecklistResultEndpointsSerializeWithLazyUser() throws Exception {
+        // 저장 응답과 상세 조회 응답 모두 LAZY user 연관을 가진 UserChecklistResult 엔티티
+        String body = objectMapper.writeValueAsString(Map.of(
+            "resultName", "페치 플랜 결과지",
+            "answers", Map.of(String.valueOf(checklist.getId()), true)));
+
+        String saved = mockMvc.perform(post("/api/user/checklist")
+                .with(user(user.getUsername()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.resultName").value("페치 플랜 결과지"))
+            .andExpect(jsonPath("$.user").doesNotExist())
+            .andReturn().getResponse().getContentAsString();
+        long resultId = objectMapper.readTree(saved).get("id").asLong();
+
+        mockMvc.perform(get("/api/user/checklist/{id}", resultId)
+                .with(user(user.getUsername())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(resultId))
+            .andExpect(jsonPath("$.answers['" + checklist.getId() + "']").value(true))
+            .andExpect(jsonPath("$.user").doesNotExist());
+    }
+
+    @Test
+    void adminUserListSerializesUsers() throws Exception {
+        mockMvc.perform(get("/admin/users")
+                .with(user("fetchplan-admin").roles("ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].username", hasItem(user.getUsername())))
+            .andExpect(jsonPath("$[*].externalId", hasItem(user.getExternalId())));
+    }
+
+    @Test
+    void guidelineChecklistsSerializeWithoutLazyAssociations() throws Exception {
+        mockMvc.perform(get("/api/checklists/guideline/{id}", guideline.getId())
+                .with(user(user.getUsername())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(checklist.getId()))
+            .andExpect(jsonPath("$[0].title").value(checklist.getTitle()))
+            .andExpect(jsonPath("$[0].guideline").doesNotExist());
+    }
+}
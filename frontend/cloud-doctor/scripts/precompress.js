@@ -0,0 +1,36 @@
+// 빌드 결과물의 .br / .gz 압축본 생성 (백엔드가 Accept-Encoding 에 따라 그대로 전송)
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const BUILD_DIR = path.join(__dirname, '..', 'build');
+const COMPRESSIBLE = /\.(js|css|html|json|svg|txt|map|ico)$/;
+const MIN_BYTES = 1024; // 작은 파일은 압축 이득보다 요청 처리 비용이 큼
+
+function walk(dir) {
+  return fs.readdirSync(dir, { withFileTypes: true }).flatMap((entry) => {
+    const fullPath = path.join(dir, entry.name);
+    return entry.isDirectory() ? walk(fullPath) : [fullPath];
+  });
+}
+
+let count = 0;
+for (const file of walk(BUILD_DIR)) {
+  if (!COMPRESSIBLE.test(file)) continue;
+  const content = fs.readFileSync(file);
+  if (content.length < MIN_BYTES) continue;
+
+  const brotli = zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+    },
+  });
+  const gzip = zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION });
+
+  // 원본보다 작을 때만 기록
+  if (brotli.length < content.length) fs.writeFileSync(`${file}.br`, brotli);
+  if (gzip.length < content.length) fs.writeFileSync(`${file}.gz`, gzip);
+  count++;
+}
+console.log(`precompressed ${count} files in ${BUILD_DIR}`);
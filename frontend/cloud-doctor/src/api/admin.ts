@@ -159,9 +159,11 @@ export const adminApi = {
     await axios.post("/api/user/checklist", { resultName, answers });
   },
 
-  getMyChecklists: async (): Promise<any[]> => {
-    const { data } = await axios.get("/api/user/checklists");
-    return data;
+  getMyChecklists: async (page = 0, size = 20): Promise<any[]> => {
+    const { data } = await axios.get("/api/user/checklists", {
+      params: { page, size },
+    });
+    return data.content;
   },
 
   getChecklistDetail: async (id: number): Promise<any> => {
@@ -267,12 +269,24 @@ export const adminApi = {
     await axios.put(`/admin/guidelines/${id}`, guidelineData);
   },
 
-  uploadGuidelineImage: async (guidelineId: string, formData: FormData): Promise<{imageUrl: string}> => {
-    const { data } = await axios.post(`/admin/guidelines/${guidelineId}/images`, formData, {
-      headers: {
-        'Content-Type': 'multipart/form-data'
-      }
+  // 1) 업로드 URL 발급 → 2) 브라우저가 S3 로 직접 PUT → 3) 업로드 확인 (백엔드를 거치지 않고 업로드)
+  uploadGuidelineImage: async (guidelineId: string, file: File): Promise<{imageUrl: string}> => {
+    const { data: presigned } = await axios.post<{ key: string; uploadUrl: string; contentType: string }>(
+      `/admin/guidelines/${guidelineId}/images/presign`,
+      { fileName: file.name, contentType: file.type, contentLength: file.size }
+    );
+
+    // 서명에 포함된 Content-Type 과 같아야 하며, 인증 쿠키/헤더는 보내지 않음
+    const uploadResponse = await fetch(presigned.uploadUrl, {
+      method: 'PUT',
+      headers: { 'Content-Type': presigned.contentType },
+      body: file,
     });
+    if (!uploadResponse.ok) {
+      throw new Error(`S3 업로드 실패: ${uploadResponse.status}`);
+    }
+
+    const { data } = await axios.post(`/admin/guidelines/${guidelineId}/images/confirm`, { key: presigned.key });
     return data;
   },
 };
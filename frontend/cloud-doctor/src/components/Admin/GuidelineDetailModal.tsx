@@ -74,10 +74,7 @@ export const GuidelineDetailModal: React.FC<Props> = ({
     setUploading(true);
     try {
       const uploadPromises = Array.from(files).map(async (file) => {
-        const formData = new FormData();
-        formData.append('image', file);
-        
-        const response = await adminApi.uploadGuidelineImage(guideline.id, formData);
+        const response = await adminApi.uploadGuidelineImage(guideline.id, file);
         return response.imageUrl;
       });
 
@@ -50,4 +50,14 @@ module.exports = function(app) {
       }
     })
   );
+
+  // 저장소 파일 (/files/**, 로컬 저장소 이미지 조회 및 서명된 업로드)
+  app.use(
+    '/files',
+    createProxyMiddleware({
+      target: 'http://localhost:9090',
+      changeOrigin: true,
+      secure: false,
+    })
+  );
 };
\ No newline at end of file